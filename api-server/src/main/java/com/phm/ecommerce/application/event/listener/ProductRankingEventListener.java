@@ -0,0 +1,45 @@
+package com.phm.ecommerce.application.event.listener;
+
+import com.phm.ecommerce.domain.product.event.ProductSoldEvent;
+import com.phm.ecommerce.infrastructure.cache.ProductRankingService;
+import com.phm.ecommerce.infrastructure.event.async.AsyncEventDispatcher;
+import com.phm.ecommerce.infrastructure.event.async.AsyncEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductRankingEventListener implements AsyncEventHandler<ProductSoldEvent> {
+
+  private final ProductRankingService productRankingService;
+  private final AsyncEventDispatcher asyncEventDispatcher;
+
+  // 커밋된 판매만 반영한다. 요청 스레드를 붙잡지 않도록 이벤트 실행기에서 반영하고, 포화되면 Redis로 넘긴다
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onProductSold(ProductSoldEvent event) {
+    try {
+      asyncEventDispatcher.dispatch(event);
+    } catch (Exception e) {
+      log.warn("판매량 랭킹 반영 요청 실패 - orderId: {}, error: {}", event.orderId(), e.getMessage());
+    }
+  }
+
+  @Override
+  public Class<ProductSoldEvent> eventType() {
+    return ProductSoldEvent.class;
+  }
+
+  // 실패해도 주문에는 영향을 주지 않고 랭킹 배치가 보정한다
+  @Override
+  public void handle(ProductSoldEvent event) {
+    try {
+      productRankingService.incrementSalesScore(event.quantityByProductId());
+    } catch (Exception e) {
+      log.warn("판매량 랭킹 반영 실패 - orderId: {}, error: {}", event.orderId(), e.getMessage());
+    }
+  }
+}
@@ -1,24 +1,46 @@
 package com.phm.ecommerce.application.service;
 
+import com.phm.ecommerce.domain.common.TimeOrderedIdGenerator;
 import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.product.exception.InsufficientStockException;
+import com.phm.ecommerce.domain.product.exception.ProductNotFoundException;
 import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
 import com.phm.ecommerce.infrastructure.cache.ProductRankingService;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.StockHold;
+import com.phm.ecommerce.infrastructure.cache.ProductViewCountService;
+import com.phm.ecommerce.infrastructure.cache.RankingWindow;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductStockProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductService {
 
+  // 트랜잭션마다 예약한 hold 목록을 바인딩하는 리소스 키
+  private static final Object STOCK_HOLDS_RESOURCE = new Object();
+
   private final ProductRepository productRepository;
   private final ProductRankingService productRankingService;
   private final ProductCacheService productCacheService;
+  private final ProductViewCountService productViewCountService;
+  private final ProductStockProperties productStockProperties;
+  private final ProductStockReservationService productStockReservationService;
 
   public List<ProductInfo> getProductsByIds(List<Long> productIds) {
     log.info("상품 조회 요청: {} 개", productIds.size());
@@ -39,12 +61,28 @@ public class ProductService {
         .toList();
   }
 
-  public ProductIdList getPopularProductIds(int limit) {
-    log.info("인기 상품 ID 조회 시작: limit={}", limit);
+  /**
+   * 조회수를 Redis에만 누적하고 아직 DB에 반영되지 않은 조회수를 반환한다.
+   */
+  public long recordView(Long productId) {
+    long unflushedViewCount = productViewCountService.increment(productId);
+
+    try {
+      productRankingService.incrementViewScore(productId);
+    } catch (Exception e) {
+      log.warn("조회수 랭킹 반영 실패 - productId: {}, error: {}", productId, e.getMessage());
+    }
+
+    return unflushedViewCount;
+  }
 
-    List<Long> ids = productRankingService.getTopProductIds(limit);
+  public ProductIdList getPopularProductIds(int limit, RankingWindow window) {
+    log.info("인기 상품 ID 조회 시작: limit={}, window={}", limit, window.getCode());
 
-    if (ids.isEmpty()) {
+    List<Long> ids = productRankingService.getTopProductIds(limit, window);
+
+    // 구간 랭킹은 DB에 대응하는 집계가 없으므로 전체 랭킹일 때만 DB로 대체한다
+    if (ids.isEmpty() && !window.isBucketed()) {
       log.warn("Redis 랭킹 데이터 없음 - DB에서 직접 조회");
       List<Product> products = productRepository.findPopularProducts(limit);
       ids = products.stream()
@@ -56,6 +94,133 @@ public class ProductService {
     return new ProductIdList(ids);
   }
 
+  /**
+   * 설정된 방식으로 재고를 차감하고 판매량을 올린다.
+   * CONDITIONAL_UPDATE 모드와 Redis 예약 상품은 반환된 엔티티의 재고/판매량이 차감 전 값이다.
+   */
+  public Product decreaseStock(Long productId, Long quantity) {
+    return decreaseStock(productRepository.findByIdOrThrow(productId), quantity);
+  }
+
+  /**
+   * 여러 상품의 재고를 한 번의 IN 조회로 읽어 차감한다.
+   * 상품 ID 순서로 차감해 조건부 UPDATE끼리 서로 다른 순서로 행 락을 잡지 않도록 한다.
+   */
+  public Map<Long, Product> decreaseStocks(Map<Long, Long> quantityByProductId) {
+    Map<Long, Product> products = productRepository.findAllByIds(new ArrayList<>(quantityByProductId.keySet()))
+        .stream()
+        .collect(Collectors.toMap(Product::getId, product -> product));
+
+    Map<Long, Product> decreased = new HashMap<>();
+    new TreeMap<>(quantityByProductId).forEach((productId, quantity) -> {
+      Product product = products.get(productId);
+      if (product == null) {
+        throw new ProductNotFoundException();
+      }
+      decreased.put(productId, decreaseStock(product, quantity));
+    });
+    return decreased;
+  }
+
+  private Product decreaseStock(Product product, Long quantity) {
+    Long productId = product.getId();
+    if (productStockProperties.isReserved(productId)) {
+      return reserveStock(product, quantity);
+    }
+
+    if (productStockProperties.usesProductLock(productId)) {
+      product.decreaseStock(quantity);
+      product.increaseSalesCount(quantity);
+      return saveProduct(product);
+    }
+
+    int updated = productRepository.decreaseStock(productId, quantity);
+    if (updated == 0) {
+      log.warn("재고 부족 - productId: {}, requestedStock: {}", productId, quantity);
+      throw new InsufficientStockException(productId, quantity, product.getQuantity());
+    }
+
+    productCacheService.evictProductCache(productId);
+    return product;
+  }
+
+  public boolean usesProductLock(Long productId) {
+    return productStockProperties.usesProductLock(productId);
+  }
+
+  /**
+   * Redis 카운터에서 재고를 예약한다. DB 반영은 배치가 일괄로 확정하고, 주문이 롤백되면 예약을 되돌린다.
+   */
+  private Product reserveStock(Product product, Long quantity) {
+    Long productId = product.getId();
+    StockHold hold = new StockHold(TimeOrderedIdGenerator.nextId(), productId, quantity);
+    Duration holdTtl = productStockProperties.getReservationHoldTtl();
+
+    long remaining = productStockReservationService.reserve(hold, holdTtl);
+    if (remaining == ProductStockReservationService.NOT_INITIALIZED) {
+      productStockReservationService.initialize(productId, product.getQuantity());
+      remaining = productStockReservationService.reserve(hold, holdTtl);
+    }
+    if (remaining < 0) {
+      long available = Math.max(productStockReservationService.getStock(productId), 0L);
+      log.warn("Redis 재고 부족 - productId: {}, requestedStock: {}, availableStock: {}",
+          productId, quantity, available);
+      throw new InsufficientStockException(productId, quantity, available);
+    }
+
+    registerStockHold(hold);
+
+    log.debug("Redis 재고 예약 완료 - productId: {}, quantity: {}, remainingStock: {}",
+        productId, quantity, remaining);
+    return product;
+  }
+
+  /**
+   * 현재 트랜잭션에서 예약한 재고를 주문에 연결한다. 주문을 저장한 직후 호출해야
+   * 커밋 후 확정이 유실되어도 배치가 주문 존재 여부로 확정하거나 해제할 수 있다.
+   */
+  public void bindStockReservations(Long orderId) {
+    List<StockHold> holds = currentStockHolds();
+    if (holds != null) {
+      productStockReservationService.bindOrder(holds, orderId);
+    }
+  }
+
+  /**
+   * 트랜잭션이 커밋되면 hold를 확정 대기로 옮기고, 그 외에는 카운터에 되돌린다.
+   * 트랜잭션 밖에서 호출되면 되돌릴 주체가 없으므로 바로 확정한다.
+   */
+  private void registerStockHold(StockHold hold) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      productStockReservationService.confirm(List.of(hold));
+      return;
+    }
+
+    List<StockHold> holds = currentStockHolds();
+    if (holds == null) {
+      List<StockHold> transactionHolds = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(STOCK_HOLDS_RESOURCE, transactionHolds);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(STOCK_HOLDS_RESOURCE);
+          if (status == STATUS_COMMITTED) {
+            productStockReservationService.confirm(transactionHolds);
+          } else {
+            productStockReservationService.release(transactionHolds);
+          }
+        }
+      });
+      holds = transactionHolds;
+    }
+    holds.add(hold);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<StockHold> currentStockHolds() {
+    return (List<StockHold>) TransactionSynchronizationManager.getResource(STOCK_HOLDS_RESOURCE);
+  }
+
   public Product saveProduct(Product product) {
     log.info("상품 저장: productId={}", product.getId());
     Product saved = productRepository.save(product);
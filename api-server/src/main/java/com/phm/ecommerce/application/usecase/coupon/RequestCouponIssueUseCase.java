@@ -1,6 +1,8 @@
 package com.phm.ecommerce.application.usecase.coupon;
 
+import com.phm.ecommerce.domain.coupon.Coupon;
 import com.phm.ecommerce.domain.coupon.exception.CouponAlreadyIssuedException;
+import com.phm.ecommerce.domain.coupon.exception.CouponSoldOutException;
 import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
 import com.phm.ecommerce.infrastructure.repository.CouponRepository;
 import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
@@ -23,39 +25,40 @@ public class RequestCouponIssueUseCase {
 
   public Output execute(Input request) {
     log.info("비동기 쿠폰 발급 요청 - userId: {}, couponId: {}", request.userId(), request.couponId());
-    boolean added = couponQueueService.addCouponRequest(request.couponId(), request.userId());
+    long position = couponQueueService.enqueueCouponRequest(request.couponId(), request.userId());
 
-    if (!added) {
-      log.warn("쿠폰 발급 요청 실패 - 이미 대기 중인 요청. userId: {}, couponId: {}",
-          request.userId(), request.couponId());
-      throw new CouponAlreadyIssuedException();
+    // 쿠폰별 첫 요청에서만 DB를 조회해 Redis 카운터를 만든다
+    if (position == CouponQueueService.NOT_INITIALIZED) {
+      initializeCouponStock(request.couponId());
+      position = couponQueueService.enqueueCouponRequest(request.couponId(), request.userId());
     }
 
-    try {
-      couponRepository.findByIdOrThrow(request.couponId());
-      boolean alreadyIssued = userCouponRepository.existsByUserIdAndCouponId(
+    if (position == CouponQueueService.SOLD_OUT) {
+      log.warn("쿠폰 발급 요청 실패 - 재고 소진. userId: {}, couponId: {}",
           request.userId(), request.couponId());
-      if (alreadyIssued) {
-        couponQueueService.removeCouponRequest(request.couponId(), request.userId());
-        log.warn("쿠폰 발급 요청 실패 - 이미 발급된 쿠폰 userId: {}, couponId: {}",
-            request.userId(), request.couponId());
-        throw new CouponAlreadyIssuedException();
-      }
+      throw new CouponSoldOutException(request.couponId());
+    }
 
-      long queueSize = couponQueueService.getQueueSize(request.couponId());
+    if (position < 0) {
+      log.warn("쿠폰 발급 요청 실패 - 이미 발급되었거나 대기 중인 요청. userId: {}, couponId: {}",
+          request.userId(), request.couponId());
+      throw new CouponAlreadyIssuedException();
+    }
 
-      log.info("비동기 쿠폰 발급 요청 완료 - userId: {}, couponId: {}, queueSize: {}",
-          request.userId(), request.couponId(), queueSize);
+    log.info("비동기 쿠폰 발급 요청 완료 - userId: {}, couponId: {}, position: {}",
+        request.userId(), request.couponId(), position);
 
-      return new Output();
+    return new Output(position);
+  }
 
-    } catch (Exception e) {
-      couponQueueService.removeCouponRequest(request.couponId(), request.userId());
-      log.error("쿠폰 발급 요청 검증 실패 - 큐에서 제거. userId: {}, couponId: {}",
-          request.userId(), request.couponId(), e);
-      throw e;
-    }
+  private void initializeCouponStock(Long couponId) {
+    Coupon coupon = couponRepository.findByIdOrThrow(couponId);
+    couponQueueService.initializeCouponStock(
+        couponId,
+        coupon.getRemainingQuantity(),
+        userCouponRepository.findUserIdsByCouponId(couponId));
   }
 
-  public record Output() {}
+  public record Output(
+      Long queuePosition) {}
 }
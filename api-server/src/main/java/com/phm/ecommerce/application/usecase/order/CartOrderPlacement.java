@@ -0,0 +1,241 @@
+package com.phm.ecommerce.application.usecase.order;
+
+import com.phm.ecommerce.application.lock.MultiDistributedLock;
+import com.phm.ecommerce.application.lock.RedisLockKeys;
+import com.phm.ecommerce.application.service.ProductService;
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase.CartItemCouponInfo;
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase.Input;
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase.OrderItemInfo;
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase.Output;
+import com.phm.ecommerce.domain.cart.CartItem;
+import com.phm.ecommerce.domain.cart.exception.CartItemNotFoundException;
+import com.phm.ecommerce.domain.coupon.Coupon;
+import com.phm.ecommerce.domain.coupon.UserCoupon;
+import com.phm.ecommerce.domain.coupon.exception.CouponNotFoundException;
+import com.phm.ecommerce.domain.coupon.exception.UserCouponNotFoundException;
+import com.phm.ecommerce.domain.order.Order;
+import com.phm.ecommerce.domain.order.OrderItem;
+import com.phm.ecommerce.domain.order.OrderPricingService;
+import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEventType;
+import com.phm.ecommerce.domain.point.Point;
+import com.phm.ecommerce.domain.point.PointTransaction;
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.product.event.ProductSoldEvent;
+import com.phm.ecommerce.infrastructure.event.publisher.EventPublisher;
+import com.phm.ecommerce.infrastructure.outbox.OutboxEventService;
+import com.phm.ecommerce.infrastructure.repository.CartItemRepository;
+import com.phm.ecommerce.infrastructure.repository.CouponRepository;
+import com.phm.ecommerce.infrastructure.repository.OrderItemRepository;
+import com.phm.ecommerce.infrastructure.repository.OrderRepository;
+import com.phm.ecommerce.infrastructure.repository.PointRepository;
+import com.phm.ecommerce.infrastructure.repository.PointTransactionRepository;
+import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 장바구니 주문에서 락과 트랜잭션 안에서 실행할 부분.
+ * {@link CreateOrderUseCase}가 락 키 계산에 쓸 장바구니 행을 먼저 읽고, 프록시를 거치도록 별도 빈으로 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class CartOrderPlacement {
+
+  private final CartItemRepository cartItemRepository;
+  private final ProductService productService;
+  private final UserCouponRepository userCouponRepository;
+  private final CouponRepository couponRepository;
+  private final PointRepository pointRepository;
+  private final PointTransactionRepository pointTransactionRepository;
+  private final OrderRepository orderRepository;
+  private final OrderItemRepository orderItemRepository;
+  private final OrderPricingService orderPricingService;
+  private final EventPublisher eventPublisher;
+  private final OutboxEventService outboxEventService;
+
+  @MultiDistributedLock(lockKeyProvider = "prepareLockKeys")
+  @Transactional
+  Output place(Input request, List<CartItem> cartItems) {
+    Map<Long, Long> cartItemCouponMap = new HashMap<>();
+    for (CartItemCouponInfo map : request.cartItemCouponMaps()) {
+      if (map.userCouponId() != null) {
+        cartItemCouponMap.put(map.cartItemId(), map.userCouponId());
+      }
+    }
+
+    Map<Long, Long> quantityByProductId = new LinkedHashMap<>();
+    for (CartItem cartItem : cartItems) {
+      quantityByProductId.merge(cartItem.getProductId(), cartItem.getQuantity(), Long::sum);
+    }
+    Map<Long, Product> products = productService.decreaseStocks(quantityByProductId);
+
+    Map<Long, UserCoupon> userCoupons = loadUserCoupons(cartItemCouponMap.values());
+    Map<Long, Coupon> coupons = loadCoupons(userCoupons.values());
+
+    List<OrderItemData> orderItemDataList = new ArrayList<>();
+    Long totalAmount = 0L;
+    Long totalDiscountAmount = 0L;
+
+    for (CartItem cartItem : cartItems) {
+      Product product = products.get(cartItem.getProductId());
+
+      Long discountAmount = 0L;
+      UserCoupon userCoupon = null;
+      Long userCouponId = cartItemCouponMap.get(cartItem.getId());
+
+      if (userCouponId != null) {
+        userCoupon = userCoupons.get(userCouponId);
+        discountAmount = userCoupon.calculateDiscount(coupons.get(userCoupon.getCouponId()));
+      }
+
+      orderItemDataList.add(new OrderItemData(cartItem, product, userCoupon, discountAmount));
+
+      Long itemTotalAmount = orderPricingService.calculateItemTotal(product, cartItem.getQuantity());
+      totalAmount += itemTotalAmount;
+      totalDiscountAmount += discountAmount;
+    }
+
+    Long finalAmount = orderPricingService.calculateFinalAmount(totalAmount, totalDiscountAmount);
+
+    log.debug("주문 금액 계산 완료 - totalAmount: {}, discountAmount: {}, finalAmount: {}",
+        totalAmount, totalDiscountAmount, finalAmount);
+
+    Point point = pointRepository.findByUserIdOrThrow(request.userId());
+    point.deduct(finalAmount);
+    point = pointRepository.save(point);
+
+    log.debug("포인트 차감 완료 - userId: {}, deductedAmount: {}, remainingPoints: {}",
+        request.userId(), finalAmount, point.getAmount());
+
+    Order order = Order.create(request.userId(), totalAmount, totalDiscountAmount);
+    order = orderRepository.save(order);
+    productService.bindStockReservations(order.getId());
+
+    List<OrderItem> orderItems = new ArrayList<>();
+    List<UserCoupon> usedCoupons = new ArrayList<>();
+    for (OrderItemData data : orderItemDataList) {
+      orderItems.add(
+          OrderItem.create(
+              order.getId(),
+              request.userId(),
+              data.product.getId(),
+              data.product.getName(),
+              data.cartItem.getQuantity(),
+              data.product.getPrice(),
+              data.discountAmount,
+              data.userCoupon != null ? data.userCoupon.getId() : null));
+
+      if (data.userCoupon != null) {
+        data.userCoupon.use();
+        usedCoupons.add(data.userCoupon);
+      }
+    }
+    orderItems = orderItemRepository.saveAll(orderItems);
+    userCouponRepository.saveAll(usedCoupons);
+
+    List<OrderItemInfo> orderItemInfos = orderItems.stream()
+        .map(orderItem -> new OrderItemInfo(
+            orderItem.getId(),
+            orderItem.getProductId(),
+            orderItem.getProductName(),
+            orderItem.getQuantity(),
+            orderItem.getPrice(),
+            orderItem.getTotalPrice(),
+            orderItem.getDiscountAmount(),
+            orderItem.getFinalAmount(),
+            orderItem.getUserCouponId()))
+        .toList();
+
+    PointTransaction pointTransaction =
+        PointTransaction.createDeduction(point.getId(), order.getId(), finalAmount);
+    pointTransactionRepository.save(pointTransaction);
+
+    // 락 밖에서 읽은 행이므로 그 사이 삭제된 장바구니 항목이 있으면 주문을 되돌린다
+    int deleted = cartItemRepository.deleteAllByIds(cartItems.stream().map(CartItem::getId).toList());
+    if (deleted != cartItems.size()) {
+      log.warn("주문 실패 - 주문 중 장바구니 항목이 삭제됨. userId: {}", request.userId());
+      throw new CartItemNotFoundException();
+    }
+
+    log.info("주문 생성 완료 - orderId: {}, userId: {}, finalAmount: {}, orderItemCount: {}",
+        order.getId(), order.getUserId(), order.getFinalAmount(), orderItemInfos.size());
+
+    outboxEventService.append(OutboxEventType.ORDER_CREATED, order.getId(), new OrderCreatedEvent(
+        order.getId(),
+        order.getUserId(),
+        order.getFinalAmount(),
+        order.getCreatedAt()
+    ));
+    eventPublisher.publish(new ProductSoldEvent(order.getId(), quantityByProductId));
+
+    return new Output(
+        order.getId(),
+        order.getUserId(),
+        order.getTotalAmount(),
+        order.getDiscountAmount(),
+        order.getFinalAmount(),
+        order.getCreatedAt(),
+        orderItemInfos);
+  }
+
+  private Map<Long, UserCoupon> loadUserCoupons(Collection<Long> userCouponIds) {
+    if (userCouponIds.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Long> distinctIds = userCouponIds.stream().distinct().toList();
+    Map<Long, UserCoupon> userCoupons = userCouponRepository.findAllByIds(distinctIds).stream()
+        .collect(Collectors.toMap(UserCoupon::getId, userCoupon -> userCoupon));
+    if (userCoupons.size() != distinctIds.size()) {
+      throw new UserCouponNotFoundException();
+    }
+    return userCoupons;
+  }
+
+  private Map<Long, Coupon> loadCoupons(Collection<UserCoupon> userCoupons) {
+    if (userCoupons.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Long> couponIds = userCoupons.stream()
+        .map(UserCoupon::getCouponId)
+        .distinct()
+        .toList();
+    Map<Long, Coupon> coupons = couponRepository.findAllByIds(couponIds).stream()
+        .collect(Collectors.toMap(Coupon::getId, coupon -> coupon));
+    if (coupons.size() != couponIds.size()) {
+      throw new CouponNotFoundException();
+    }
+    return coupons;
+  }
+
+  private List<String> prepareLockKeys(Input request, List<CartItem> cartItems) {
+    List<String> lockKeys = new ArrayList<>();
+
+    cartItems.stream()
+        .map(CartItem::getProductId)
+        .distinct()
+        .filter(productService::usesProductLock)
+        .forEach(productId -> lockKeys.add(RedisLockKeys.product(productId)));
+
+    lockKeys.add(RedisLockKeys.pointUser(request.userId()));
+
+    log.debug("락 키 준비 완료 - lockKeys: {}", lockKeys);
+    return lockKeys;
+  }
+
+  private record OrderItemData(CartItem cartItem, Product product, UserCoupon userCoupon, Long discountAmount) {
+
+  }
+}
@@ -9,16 +9,18 @@ import com.phm.ecommerce.domain.order.Order;
 import com.phm.ecommerce.domain.order.OrderItem;
 import com.phm.ecommerce.domain.order.OrderPricingService;
 import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEventType;
 import com.phm.ecommerce.domain.point.Point;
 import com.phm.ecommerce.domain.point.PointTransaction;
 import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.product.event.ProductSoldEvent;
 import com.phm.ecommerce.infrastructure.event.publisher.EventPublisher;
+import com.phm.ecommerce.infrastructure.outbox.OutboxEventService;
 import com.phm.ecommerce.infrastructure.repository.CouponRepository;
 import com.phm.ecommerce.infrastructure.repository.OrderItemRepository;
 import com.phm.ecommerce.infrastructure.repository.OrderRepository;
 import com.phm.ecommerce.infrastructure.repository.PointRepository;
 import com.phm.ecommerce.infrastructure.repository.PointTransactionRepository;
-import com.phm.ecommerce.infrastructure.repository.ProductRepository;
 import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,13 +29,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CreateDirectOrderUseCase {
 
-  private final ProductRepository productRepository;
   private final ProductService productService;
   private final UserCouponRepository userCouponRepository;
   private final CouponRepository couponRepository;
@@ -43,6 +45,7 @@ public class CreateDirectOrderUseCase {
   private final OrderItemRepository orderItemRepository;
   private final OrderPricingService orderPricingService;
   private final EventPublisher eventPublisher;
+  private final OutboxEventService outboxEventService;
 
   public record Input(Long userId, Long productId, Long quantity, Long userCouponId) {}
 
@@ -52,13 +55,10 @@ public class CreateDirectOrderUseCase {
     log.info("즉시 구매 주문 생성 시작 - userId: {}, productId: {}, quantity: {}",
         request.userId(), request.productId(), request.quantity());
 
-    Product product = productRepository.findByIdOrThrow(request.productId());
-    product.decreaseStock(request.quantity());
-    product.increaseSalesCount(request.quantity());
-    product = productService.saveProduct(product);
+    Product product = productService.decreaseStock(request.productId(), request.quantity());
 
-    log.debug("재고 차감 완료 - productId: {}, quantity: {}, remainingStock: {}",
-        request.productId(), request.quantity(), product.getQuantity());
+    log.debug("재고 차감 완료 - productId: {}, quantity: {}",
+        request.productId(), request.quantity());
 
     UserCoupon userCoupon = null;
     Long discountAmount = 0L;
@@ -83,6 +83,7 @@ public class CreateDirectOrderUseCase {
 
     Order order = Order.create(request.userId(), totalAmount, discountAmount);
     order = orderRepository.save(order);
+    productService.bindStockReservations(order.getId());
 
     OrderItem orderItem =
         OrderItem.create(
@@ -120,12 +121,16 @@ public class CreateDirectOrderUseCase {
             orderItem.getFinalAmount(),
             orderItem.getUserCouponId());
 
-    eventPublisher.publish(new OrderCreatedEvent(
+    outboxEventService.append(OutboxEventType.ORDER_CREATED, order.getId(), new OrderCreatedEvent(
         order.getId(),
         order.getUserId(),
         order.getFinalAmount(),
         order.getCreatedAt()
     ));
+    eventPublisher.publish(new ProductSoldEvent(
+        order.getId(),
+        Map.of(request.productId(), request.quantity())
+    ));
 
     return new Output(
         order.getId(),
@@ -138,6 +143,9 @@ public class CreateDirectOrderUseCase {
   }
 
   private List<String> prepareLockKeys(Input request) {
+    if (!productService.usesProductLock(request.productId())) {
+      return List.of(RedisLockKeys.pointUser(request.userId()));
+    }
     return List.of(
         RedisLockKeys.product(request.productId()),
         RedisLockKeys.pointUser(request.userId())
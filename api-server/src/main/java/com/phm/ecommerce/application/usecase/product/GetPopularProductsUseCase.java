@@ -1,6 +1,7 @@
 package com.phm.ecommerce.application.usecase.product;
 
 import com.phm.ecommerce.application.service.ProductService;
+import com.phm.ecommerce.infrastructure.cache.RankingWindow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -15,16 +16,19 @@ public class GetPopularProductsUseCase {
 
   private static final int DEFAULT_LIMIT = 5;
 
-  public record Input(Integer limit) {
+  public record Input(Integer limit, RankingWindow window) {
     public Input {
       if (limit == null) {
         limit = DEFAULT_LIMIT;
       }
+      if (window == null) {
+        window = RankingWindow.ALL;
+      }
     }
   }
 
   public List<Output> execute(Input input) {
-    ProductService.ProductIdList productIdList = productService.getPopularProductIds(input.limit());
+    ProductService.ProductIdList productIdList = productService.getPopularProductIds(input.limit(), input.window());
 
     List<ProductService.ProductInfo> products = productService.getProductsByIds(productIdList.ids());
 
@@ -1,38 +1,39 @@
 package com.phm.ecommerce.application.usecase.product;
 
 import com.phm.ecommerce.application.service.ProductService;
-import com.phm.ecommerce.domain.product.Product;
-import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.application.service.ProductService.ProductInfo;
+import com.phm.ecommerce.domain.product.exception.ProductNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class GetProductByIdUseCase {
 
-  private final ProductRepository productRepository;
   private final ProductService productService;
 
   public record Input(Long productId) {}
 
-  @Transactional
   public Output execute(Input input) {
-    Product product = productRepository.findByIdOrThrow(input.productId());
-    product.increaseViewCount();
-    product = productService.saveProduct(product);
+    ProductInfo product = productService.getProductsByIds(List.of(input.productId())).stream()
+        .findFirst()
+        .orElseThrow(ProductNotFoundException::new);
+
+    // 조회수는 Redis에 누적되고 배치가 DB에 반영하므로, 캐시 값에 미반영분을 더해 응답한다
+    long unflushedViewCount = productService.recordView(product.id());
 
     return new Output(
-        product.getId(),
-        product.getName(),
-        product.getPrice(),
-        product.getQuantity(),
-        product.getViewCount(),
-        product.getSalesCount(),
-        product.getCreatedAt(),
-        product.getUpdatedAt()
+        product.id(),
+        product.name(),
+        product.price(),
+        product.quantity(),
+        product.viewCount() + unflushedViewCount,
+        product.salesCount(),
+        product.createdAt(),
+        product.updatedAt()
     );
   }
 
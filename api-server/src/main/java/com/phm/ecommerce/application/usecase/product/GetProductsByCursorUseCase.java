@@ -0,0 +1,98 @@
+package com.phm.ecommerce.application.usecase.product;
+
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.product.exception.InvalidCursorException;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 마지막으로 조회한 상품 ID 이후부터 읽는 키셋 페이지네이션.
+ * OFFSET과 COUNT(*)가 없어 페이지 깊이와 상관없이 비용이 일정하다.
+ */
+@Service
+@RequiredArgsConstructor
+public class GetProductsByCursorUseCase {
+
+  private final ProductRepository productRepository;
+
+  private static final String CURSOR_PREFIX = "id:";
+
+  public record Input(String cursor, int size) {
+    public Input {
+      if (size <= 0 || size > 100) {
+        size = 20;
+      }
+    }
+  }
+
+  public Output execute(Input input) {
+    long lastId = decodeCursor(input.cursor());
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+    List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(
+        lastId, Limit.of(input.size() + 1));
+
+    boolean hasNext = products.size() > input.size();
+    List<Product> pageProducts = hasNext ? products.subList(0, input.size()) : products;
+
+    List<Item> items = pageProducts.stream()
+        .map(product -> new Item(
+            product.getId(),
+            product.getName(),
+            product.getPrice(),
+            product.getQuantity(),
+            product.getViewCount(),
+            product.getSalesCount(),
+            product.getCreatedAt(),
+            product.getUpdatedAt()))
+        .toList();
+
+    String nextCursor = hasNext ? encodeCursor(items.get(items.size() - 1).productId()) : null;
+
+    return new Output(items, input.size(), nextCursor, hasNext);
+  }
+
+  private long decodeCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return 0L;
+    }
+
+    try {
+      String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      if (!decoded.startsWith(CURSOR_PREFIX)) {
+        throw new InvalidCursorException(cursor);
+      }
+      long lastId = Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+      if (lastId < 0) {
+        throw new InvalidCursorException(cursor);
+      }
+      return lastId;
+    } catch (IllegalArgumentException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+
+  private String encodeCursor(Long lastId) {
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((CURSOR_PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+  }
+
+  public record Item(
+      Long productId,
+      String name,
+      Long price,
+      Long quantity,
+      Long viewCount,
+      Long salesCount,
+      LocalDateTime createdAt,
+      LocalDateTime updatedAt) {}
+
+  public record Output(List<Item> items, int size, String nextCursor, boolean hasNext) {}
+}
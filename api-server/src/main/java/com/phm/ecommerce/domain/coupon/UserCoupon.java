@@ -1,6 +1,6 @@
 package com.phm.ecommerce.domain.coupon;
 
-import com.phm.ecommerce.domain.common.BaseEntity;
+import com.phm.ecommerce.domain.common.TimeOrderedIdEntity;
 import com.phm.ecommerce.domain.coupon.exception.CouponAlreadyUsedException;
 import com.phm.ecommerce.domain.coupon.exception.CouponExpiredException;
 import jakarta.persistence.*;
@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
     }
 )
 @Getter
-public class UserCoupon extends BaseEntity {
+public class UserCoupon extends TimeOrderedIdEntity {
 
   @Column(nullable = false)
   private Long userId;
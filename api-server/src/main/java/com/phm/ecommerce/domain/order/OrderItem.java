@@ -1,6 +1,6 @@
 package com.phm.ecommerce.domain.order;
 
-import com.phm.ecommerce.domain.common.BaseEntity;
+import com.phm.ecommerce.domain.common.TimeOrderedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 
@@ -10,7 +10,7 @@ import lombok.Getter;
     @Index(name = "idx_order_item_user_id", columnList = "userId")
 })
 @Getter
-public class OrderItem extends BaseEntity {
+public class OrderItem extends TimeOrderedIdEntity {
 
   @Column(nullable = false)
   private Long orderId;
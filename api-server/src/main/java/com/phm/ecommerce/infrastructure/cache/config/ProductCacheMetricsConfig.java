@@ -0,0 +1,58 @@
+package com.phm.ecommerce.infrastructure.cache.config;
+
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService.CacheStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductCacheMetricsConfig {
+
+  private static final String CACHE_NAME = "product";
+
+  @Bean
+  public MeterBinder productCacheMetrics(ProductCacheService productCacheService) {
+    return registry -> {
+      registerCounter(registry, productCacheService, "local", "hit", CacheStatistics::localHits);
+      registerCounter(registry, productCacheService, "local", "miss", CacheStatistics::localMisses);
+      registerCounter(registry, productCacheService, "redis", "hit", CacheStatistics::redisHits);
+      registerCounter(registry, productCacheService, "redis", "miss", CacheStatistics::redisMisses);
+
+      FunctionCounter.builder("product.cache.evictions", productCacheService,
+              service -> service.getStatistics().localEvictions())
+          .tag("cache", CACHE_NAME)
+          .tag("tier", "local")
+          .register(registry);
+      FunctionCounter.builder("product.cache.evictions", productCacheService,
+              service -> service.getStatistics().redisEvictions())
+          .tag("cache", CACHE_NAME)
+          .tag("tier", "redis")
+          .register(registry);
+
+      Gauge.builder("product.cache.size", productCacheService,
+              service -> service.getStatistics().localSize())
+          .tag("cache", CACHE_NAME)
+          .tag("tier", "local")
+          .register(registry);
+    };
+  }
+
+  private void registerCounter(
+      MeterRegistry registry,
+      ProductCacheService productCacheService,
+      String tier,
+      String result,
+      ToDoubleFunction<CacheStatistics> extractor) {
+    FunctionCounter.builder("product.cache.requests", productCacheService,
+            service -> extractor.applyAsDouble(service.getStatistics()))
+        .tag("cache", CACHE_NAME)
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(registry);
+  }
+}
@@ -0,0 +1,103 @@
+package com.phm.ecommerce.infrastructure.event.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue.ClaimedEvent;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue.SpilledEvent;
+import com.phm.ecommerce.infrastructure.event.config.AsyncExecutorProperties;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class AsyncEventDispatcher {
+
+  private final Executor eventTaskExecutor;
+  private final ObjectProvider<AsyncEventHandler<?>> handlerProvider;
+  private final EventSpillQueue eventSpillQueue;
+  private final AsyncExecutorProperties asyncExecutorProperties;
+  private final ObjectMapper objectMapper;
+
+  // 핸들러가 디스패처를 주입받을 수 있도록 첫 사용 시점에 조회한다
+  private volatile Map<String, AsyncEventHandler<?>> handlers;
+
+  public AsyncEventDispatcher(
+      @Qualifier("eventTaskExecutor") Executor eventTaskExecutor,
+      ObjectProvider<AsyncEventHandler<?>> handlerProvider,
+      EventSpillQueue eventSpillQueue,
+      AsyncExecutorProperties asyncExecutorProperties,
+      ObjectMapper objectMapper) {
+    this.eventTaskExecutor = eventTaskExecutor;
+    this.handlerProvider = handlerProvider;
+    this.eventSpillQueue = eventSpillQueue;
+    this.asyncExecutorProperties = asyncExecutorProperties;
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * 실행기에 여유가 없으면 이벤트를 Redis로 넘기고 바로 반환한다. 가상 스레드 실행기는 거부하지 않으므로
+   * 허가를 기다리는 작업이 한도를 넘는지로 포화를 판단한다. 넘기지 못하면 실행기에 그대로 맡긴다.
+   */
+  public void dispatch(Object event) {
+    AsyncEventHandler<?> handler = findHandler(event.getClass().getName());
+
+    if (availableCapacity() <= 0) {
+      try {
+        eventSpillQueue.spill(event);
+        log.info("이벤트 실행기 포화 - Redis 저장 완료, eventType: {}", event.getClass().getSimpleName());
+        return;
+      } catch (Exception e) {
+        log.warn("이벤트 실행기 포화 - Redis 저장 실패로 직접 제출, eventType: {}, error: {}",
+            event.getClass().getSimpleName(), e.getMessage());
+      }
+    }
+
+    eventTaskExecutor.execute(new EventTask(event, handler));
+  }
+
+  /**
+   * Redis에서 꺼낸 이벤트를 원래 핸들러로 다시 넣는다. 핸들러 실행이 끝나야 처리 완료가 기록된다.
+   */
+  public void redispatch(ClaimedEvent claimed) throws JsonProcessingException {
+    SpilledEvent spilled = claimed.event();
+    AsyncEventHandler<?> handler = findHandler(spilled.eventType());
+    Object event = objectMapper.readValue(spilled.payload(), handler.eventType());
+    eventTaskExecutor.execute(new EventTask(event, handler, () -> eventSpillQueue.acknowledge(claimed)));
+  }
+
+  /**
+   * 거부 없이 더 받을 수 있는 작업 수. 넘겨진 이벤트를 되돌려 넣을 때 다시 포화되지 않도록 사용한다.
+   */
+  public int availableCapacity() {
+    if (eventTaskExecutor instanceof ThreadPoolTaskExecutor pool) {
+      return pool.getThreadPoolExecutor().getQueue().remainingCapacity();
+    }
+    if (eventTaskExecutor instanceof BoundedVirtualThreadExecutor bounded) {
+      int limit = bounded.getMaxConcurrency() + asyncExecutorProperties.getMaxPending();
+      return Math.max(limit - bounded.getInFlightCount() - bounded.getWaitingCount(), 0);
+    }
+    return Integer.MAX_VALUE;
+  }
+
+  private AsyncEventHandler<?> findHandler(String eventType) {
+    if (handlers == null) {
+      handlers = handlerProvider.orderedStream()
+          .collect(Collectors.toUnmodifiableMap(
+              handler -> handler.eventType().getName(), Function.identity()));
+    }
+
+    AsyncEventHandler<?> handler = handlers.get(eventType);
+    if (handler == null) {
+      throw new IllegalArgumentException("등록된 비동기 이벤트 핸들러가 없습니다: " + eventType);
+    }
+    return handler;
+  }
+}
@@ -0,0 +1,12 @@
+package com.phm.ecommerce.infrastructure.event.async;
+
+/**
+ * 이벤트 실행기에서 비동기로 처리할 이벤트 핸들러. 실행기가 포화되면 이벤트는 Redis로 넘겨졌다가
+ * 여유가 생길 때 다시 이 핸들러로 전달되므로, 이벤트 타입은 JSON으로 직렬화할 수 있어야 한다.
+ */
+public interface AsyncEventHandler<E> {
+
+  Class<E> eventType();
+
+  void handle(E event);
+}
@@ -0,0 +1,54 @@
+package com.phm.ecommerce.infrastructure.event.async;
+
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue.ClaimedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 실행기에 여유가 생긴 만큼만 Redis에 넘겨진 이벤트를 꺼내 다시 실행기에 넣는다.
+ * 꺼낸 이벤트는 핸들러 실행이 끝난 뒤에 제거되므로, 도중에 인스턴스가 죽으면 임대 만료 후 다시 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSpillDrainer {
+
+  private static final int MAX_DRAIN_SIZE = 100;
+
+  private final EventSpillQueue eventSpillQueue;
+  private final AsyncEventDispatcher asyncEventDispatcher;
+
+  @Value("${async.spill.lease-seconds:60}")
+  private int leaseSeconds;
+
+  @Scheduled(fixedDelayString = "${async.spill.drain-interval-millis:500}")
+  public void drain() {
+    try {
+      int capacity = Math.min(asyncEventDispatcher.availableCapacity(), MAX_DRAIN_SIZE);
+      if (capacity <= 0) {
+        return;
+      }
+
+      List<ClaimedEvent> events = eventSpillQueue.claim(capacity, leaseSeconds);
+      for (ClaimedEvent event : events) {
+        try {
+          asyncEventDispatcher.redispatch(event);
+        } catch (Exception e) {
+          // 역직렬화나 핸들러 조회에 실패한 이벤트는 다시 시도해도 같으므로 제거한다
+          log.error("넘겨진 이벤트 재투입 실패 (제거) - eventType: {}", event.event().eventType(), e);
+          eventSpillQueue.acknowledge(event);
+        }
+      }
+
+      if (!events.isEmpty()) {
+        log.info("넘겨진 이벤트 재투입 완료 - 개수: {}", events.size());
+      }
+    } catch (Exception e) {
+      log.error("넘겨진 이벤트 재투입 실행 실패", e);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.phm.ecommerce.infrastructure.event.async;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 실행기가 받지 못한 이벤트를 보관하는 Redis 리스트. 먼저 넘겨진 이벤트부터 꺼낸다.
+ * 꺼낸 이벤트는 처리가 끝나 acknowledge될 때까지 처리 중 ZSET에 남아 있고,
+ * 그 전에 인스턴스가 죽어 임대가 만료되면 다시 리스트 앞으로 돌아간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSpillQueue {
+
+  private static final String SPILL_QUEUE_KEY = "event:spill:queue";
+  // 재투입했지만 처리가 끝나지 않은 이벤트. 점수는 임대 만료 시각
+  private static final String SPILL_PROCESSING_KEY = "event:spill:processing";
+
+  /**
+   * 임대가 만료된 이벤트를 리스트 앞으로 되돌린 뒤, 앞에서부터 최대 ARGV[3]개를 처리 중 ZSET으로 옮긴다.
+   * KEYS: 리스트, 처리 중 ZSET / ARGV: 현재 시각, 임대 만료 시각, 최대 개수
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+      local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3])
+      for i = #expired, 1, -1 do
+        redis.call('ZREM', KEYS[2], expired[i])
+        redis.call('LPUSH', KEYS[1], expired[i])
+      end
+
+      local values = {}
+      for i = 1, tonumber(ARGV[3]) do
+        local value = redis.call('LPOP', KEYS[1])
+        if not value then
+          break
+        end
+        redis.call('ZADD', KEYS[2], ARGV[2], value)
+        table.insert(values, value)
+      end
+      return values
+      """, List.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+
+  public void spill(Object event) throws JsonProcessingException {
+    // 같은 내용의 이벤트도 처리 중 ZSET에서 구분되도록 ID를 붙인다
+    SpilledEvent spilled = new SpilledEvent(
+        UUID.randomUUID().toString(), event.getClass().getName(), objectMapper.writeValueAsString(event));
+    stringRedisTemplate.opsForList().rightPush(SPILL_QUEUE_KEY, objectMapper.writeValueAsString(spilled));
+  }
+
+  /**
+   * 최대 count개를 꺼내 leaseSeconds 동안 처리 중으로 표시한다. 처리가 끝나면 acknowledge를 호출해야 한다.
+   */
+  public List<ClaimedEvent> claim(int count, int leaseSeconds) {
+    long now = System.currentTimeMillis();
+    List<?> values = stringRedisTemplate.execute(CLAIM_SCRIPT,
+        List.of(SPILL_QUEUE_KEY, SPILL_PROCESSING_KEY),
+        String.valueOf(now), String.valueOf(now + leaseSeconds * 1000L), String.valueOf(count));
+    if (values == null || values.isEmpty()) {
+      return List.of();
+    }
+
+    List<ClaimedEvent> events = new ArrayList<>();
+    for (Object value : values) {
+      try {
+        events.add(new ClaimedEvent(objectMapper.readValue((String) value, SpilledEvent.class), (String) value));
+      } catch (JsonProcessingException e) {
+        log.error("넘겨진 이벤트 파싱 실패 (제거) - value: {}", value, e);
+        stringRedisTemplate.opsForZSet().remove(SPILL_PROCESSING_KEY, value);
+      }
+    }
+    return events;
+  }
+
+  public void acknowledge(ClaimedEvent claimed) {
+    stringRedisTemplate.opsForZSet().remove(SPILL_PROCESSING_KEY, claimed.value());
+  }
+
+  public long size() {
+    Long size = stringRedisTemplate.opsForList().size(SPILL_QUEUE_KEY);
+    return size != null ? size : 0L;
+  }
+
+  public long processingSize() {
+    Long size = stringRedisTemplate.opsForZSet().zCard(SPILL_PROCESSING_KEY);
+    return size != null ? size : 0L;
+  }
+
+  public record SpilledEvent(String id, String eventType, String payload) {
+  }
+
+  /**
+   * 꺼낸 이벤트와 acknowledge에 사용할 원본 값
+   */
+  public record ClaimedEvent(SpilledEvent event, String value) {
+  }
+}
@@ -0,0 +1,39 @@
+package com.phm.ecommerce.infrastructure.event.async;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 거부 처리기가 작업을 직렬화할 수 있도록 원본 이벤트를 함께 들고 다니는 실행 단위.
+ * acknowledgement는 핸들러 실행이 끝난 뒤 호출되며, Redis에서 재투입된 이벤트의 처리 완료를 기록한다.
+ */
+@Slf4j
+public record EventTask(Object event, AsyncEventHandler<?> handler, Runnable acknowledgement) implements Runnable {
+
+  public EventTask(Object event, AsyncEventHandler<?> handler) {
+    this(event, handler, () -> {
+    });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void run() {
+    try {
+      ((AsyncEventHandler<Object>) handler).handle(event);
+    } catch (Exception e) {
+      log.error("비동기 이벤트 처리 실패 - eventType: {}, error: {}",
+          event.getClass().getSimpleName(), e.getMessage(), e);
+    } finally {
+      acknowledge();
+    }
+  }
+
+  public void acknowledge() {
+    try {
+      acknowledgement.run();
+    } catch (Exception e) {
+      // 기록하지 못하면 임대 만료 후 한 번 더 처리된다
+      log.warn("비동기 이벤트 처리 완료 기록 실패 - eventType: {}, error: {}",
+          event.getClass().getSimpleName(), e.getMessage());
+    }
+  }
+}
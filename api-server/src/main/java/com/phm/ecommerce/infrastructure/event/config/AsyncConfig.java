@@ -1,10 +1,12 @@
 package com.phm.ecommerce.infrastructure.event.config;
 
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
@@ -15,13 +17,21 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 @EnableAsync
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(AsyncExecutorProperties.class)
 public class AsyncConfig implements AsyncConfigurer {
 
   private final RejectedExecutionHandler rejectedExecutionHandler;
+  private final AsyncExecutorProperties asyncExecutorProperties;
 
   @Bean(name = "eventTaskExecutor")
   @Override
   public Executor getAsyncExecutor() {
+    if (asyncExecutorProperties.getType() == AsyncExecutorProperties.ExecutorType.VIRTUAL) {
+      log.info("비동기 이벤트 실행기 - 가상 스레드, 동시 실행 한도: {}",
+          asyncExecutorProperties.getMaxConcurrency());
+      return new BoundedVirtualThreadExecutor("event-async", asyncExecutorProperties.getMaxConcurrency());
+    }
+
     ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
     executor.setCorePoolSize(5);
     executor.setMaxPoolSize(10);
@@ -0,0 +1,55 @@
+package com.phm.ecommerce.infrastructure.event.config;
+
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.Executor;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncExecutorMetricsConfig {
+
+  @Bean
+  public MeterBinder asyncExecutorMetrics(
+      @Qualifier("eventTaskExecutor") Executor eventTaskExecutor,
+      @Qualifier("outboxDeliveryExecutor") BoundedVirtualThreadExecutor outboxDeliveryExecutor,
+      EventSpillQueue eventSpillQueue) {
+    return registry -> {
+      if (eventTaskExecutor instanceof BoundedVirtualThreadExecutor bounded) {
+        registerBounded(registry, "event", bounded);
+      } else if (eventTaskExecutor instanceof ThreadPoolTaskExecutor pool) {
+        // 플랫폼 풀에서는 실행 중인 스레드와 큐에 쌓인 작업이 각각 in_flight, waiting에 해당한다
+        registerGauge(registry, "event", "in_flight", pool, ThreadPoolTaskExecutor::getActiveCount);
+        registerGauge(registry, "event", "waiting", pool, ThreadPoolTaskExecutor::getQueueSize);
+      }
+      registerBounded(registry, "outbox-delivery", outboxDeliveryExecutor);
+
+      // 실행기가 받지 못해 Redis에 넘겨진 이벤트 수
+      Gauge.builder("async.executor.spilled", eventSpillQueue, EventSpillQueue::size)
+          .tag("executor", "event")
+          .register(registry);
+    };
+  }
+
+  private void registerBounded(MeterRegistry registry, String name, BoundedVirtualThreadExecutor executor) {
+    registerGauge(registry, name, "in_flight", executor, BoundedVirtualThreadExecutor::getInFlightCount);
+    registerGauge(registry, name, "waiting", executor, BoundedVirtualThreadExecutor::getWaitingCount);
+    Gauge.builder("async.executor.max.concurrency", executor, BoundedVirtualThreadExecutor::getMaxConcurrency)
+        .tag("executor", name)
+        .register(registry);
+  }
+
+  private <T> void registerGauge(
+      MeterRegistry registry, String name, String state, T executor, ToDoubleFunction<T> value) {
+    Gauge.builder("async.executor.tasks", executor, value)
+        .tag("executor", name)
+        .tag("state", state)
+        .register(registry);
+  }
+}
@@ -0,0 +1,40 @@
+package com.phm.ecommerce.infrastructure.event.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "async.executor")
+public class AsyncExecutorProperties {
+
+  private final ExecutorType type;
+  /**
+   * VIRTUAL에서 동시에 실행되는 비동기 작업의 최대 개수. 초과분은 큐 대신 가상 스레드에서 허가를 기다린다.
+   */
+  private final int maxConcurrency;
+  /**
+   * VIRTUAL에서 허가를 기다릴 수 있는 작업의 최대 개수. 넘치면 AsyncEventDispatcher가 이벤트를 Redis로 넘긴다.
+   */
+  private final int maxPending;
+
+  public AsyncExecutorProperties(
+      @DefaultValue("VIRTUAL") ExecutorType type,
+      @DefaultValue("50") int maxConcurrency,
+      @DefaultValue("1000") int maxPending) {
+    this.type = type;
+    this.maxConcurrency = maxConcurrency;
+    this.maxPending = maxPending;
+  }
+
+  public enum ExecutorType {
+    /**
+     * 고정 크기 스레드 풀과 제한된 큐. 큐가 차면 EventRejectedExecutionHandler가 처리한다.
+     */
+    PLATFORM,
+    /**
+     * 작업마다 가상 스레드를 사용하고 동시 실행 수만 세마포어로 제한한다.
+     */
+    VIRTUAL
+  }
+}
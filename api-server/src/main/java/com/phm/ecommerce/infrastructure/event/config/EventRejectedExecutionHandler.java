@@ -2,6 +2,8 @@ package com.phm.ecommerce.infrastructure.event.config;
 
 import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
 import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue;
+import com.phm.ecommerce.infrastructure.event.async.EventTask;
 import java.util.UUID;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -15,7 +17,12 @@ import org.springframework.stereotype.Component;
 public class EventRejectedExecutionHandler implements RejectedExecutionHandler {
 
   private final RedisDLQService dlqService;
+  private final EventSpillQueue eventSpillQueue;
 
+  /**
+   * 제출한 스레드(주문을 커밋한 요청 스레드)를 기다리게 하지 않고 즉시 반환한다.
+   * 이벤트 작업은 Redis로 넘겨 EventSpillDrainer가 다시 넣고, 직렬화할 수 없는 작업만 DLQ에 기록한다.
+   */
   @Override
   public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
     log.warn("이벤트 처리 큐 포화 - poolSize: {}, activeCount: {}, queueSize: {}, taskCount: {}",
@@ -24,20 +31,18 @@ public class EventRejectedExecutionHandler implements RejectedExecutionHandler {
         executor.getQueue().size(),
         executor.getTaskCount());
 
-    try {
-      log.warn("큐 포화로 인한 재시도 대기 중...");
-      Thread.sleep(100);
-
-      if (!executor.isShutdown()) {
-        executor.execute(task);
-        log.info("큐 포화 재시도 성공");
+    if (task instanceof EventTask eventTask) {
+      try {
+        eventSpillQueue.spill(eventTask.event());
+        // Redis에서 재투입된 작업이 다시 거부되었다면 새로 넘긴 것으로 대체한다
+        eventTask.acknowledge();
+        log.info("큐 포화 이벤트 Redis 저장 완료 - eventType: {}",
+            eventTask.event().getClass().getSimpleName());
         return;
+      } catch (Exception e) {
+        log.error("큐 포화 이벤트 Redis 저장 실패 - eventType: {}",
+            eventTask.event().getClass().getSimpleName(), e);
       }
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      log.error("큐 포화 재시도 중 인터럽트 발생", e);
-    } catch (Exception e) {
-      log.error("큐 포화 재시도 실패", e);
     }
     saveToDeadLetterQueue(task, executor);
   }
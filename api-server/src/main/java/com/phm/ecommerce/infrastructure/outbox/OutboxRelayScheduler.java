@@ -0,0 +1,29 @@
+package com.phm.ecommerce.infrastructure.outbox;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 직후 이벤트가 배치 서버 주기를 기다리지 않도록 API 서버도 아웃박스를 짧은 간격으로 비운다.
+ * SKIP LOCKED로 행을 나눠 가지므로 배치 서버 릴레이와 동시에 실행되어도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "outbox.relay", name = "scheduler-enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+  private final OutboxRelay outboxRelay;
+
+  @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-millis:1000}")
+  public void relay() {
+    try {
+      outboxRelay.relay();
+    } catch (Exception e) {
+      log.error("아웃박스 릴레이 실행 실패", e);
+    }
+  }
+}
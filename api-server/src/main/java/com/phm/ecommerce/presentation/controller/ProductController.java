@@ -2,10 +2,12 @@ package com.phm.ecommerce.presentation.controller;
 
 import com.phm.ecommerce.application.usecase.product.GetPopularProductsUseCase;
 import com.phm.ecommerce.application.usecase.product.GetProductByIdUseCase;
+import com.phm.ecommerce.application.usecase.product.GetProductsByCursorUseCase;
 import com.phm.ecommerce.application.usecase.product.GetProductsUseCase;
 import com.phm.ecommerce.presentation.common.ApiResponse;
 import com.phm.ecommerce.presentation.controller.api.ProductApi;
 import com.phm.ecommerce.presentation.dto.request.PopularProductRequest;
+import com.phm.ecommerce.presentation.dto.response.CursorResponse;
 import com.phm.ecommerce.presentation.dto.response.PageResponse;
 import com.phm.ecommerce.presentation.dto.response.PopularProductResponse;
 import com.phm.ecommerce.presentation.dto.response.ProductResponse;
@@ -21,6 +23,7 @@ import java.util.List;
 public class ProductController implements ProductApi {
 
   private final GetProductsUseCase getProductsUseCase;
+  private final GetProductsByCursorUseCase getProductsByCursorUseCase;
   private final GetProductByIdUseCase getProductByIdUseCase;
   private final GetPopularProductsUseCase getPopularProductsUseCase;
   private final ProductMapper productMapper;
@@ -32,6 +35,13 @@ public class ProductController implements ProductApi {
     return ApiResponse.success(productMapper.toPageResponse(pageOutput));
   }
 
+  @Override
+  public ApiResponse<CursorResponse<ProductResponse>> getProductsByCursor(String cursor, int size) {
+    GetProductsByCursorUseCase.Input input = new GetProductsByCursorUseCase.Input(cursor, size);
+    GetProductsByCursorUseCase.Output output = getProductsByCursorUseCase.execute(input);
+    return ApiResponse.success(productMapper.toCursorResponse(output));
+  }
+
   @Override
   public ApiResponse<ProductResponse> getProductById(Long productId) {
     GetProductByIdUseCase.Output output = getProductByIdUseCase.execute(
@@ -2,6 +2,7 @@ package com.phm.ecommerce.presentation.controller.api;
 
 import com.phm.ecommerce.presentation.common.ApiResponse;
 import com.phm.ecommerce.presentation.dto.request.PopularProductRequest;
+import com.phm.ecommerce.presentation.dto.response.CursorResponse;
 import com.phm.ecommerce.presentation.dto.response.PageResponse;
 import com.phm.ecommerce.presentation.dto.response.PopularProductResponse;
 import com.phm.ecommerce.presentation.dto.response.ProductResponse;
@@ -39,6 +40,29 @@ public interface ProductApi {
           @RequestParam(defaultValue = "20")
           int size);
 
+  @GetMapping("/cursor")
+  @Operation(
+      summary = "상품 목록 커서 조회",
+      description = "커서 기반으로 상품 목록을 조회합니다. 응답의 nextCursor를 다음 요청에 전달하면 이어서 조회하며, 전체 개수는 제공하지 않습니다.")
+  @ApiResponses(
+      value = {
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "200",
+            description = "성공",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "유효하지 않은 커서",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+      })
+  ApiResponse<CursorResponse<ProductResponse>> getProductsByCursor(
+      @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)", example = "aWQ6MjA")
+          @RequestParam(required = false)
+          String cursor,
+      @Parameter(description = "페이지당 항목 수 (최대 100)", example = "20")
+          @RequestParam(defaultValue = "20")
+          int size);
+
   @GetMapping("/{productId}")
   @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다. 조회 시 해당 상품의 조회수가 1 증가합니다.")
   @ApiResponses(
@@ -59,12 +83,16 @@ public interface ProductApi {
   @GetMapping("/popular")
   @Operation(
       summary = "인기 상품 조회",
-      description = "조회수와 판매량에 가중치를 적용한 인기 상품 목록을 조회합니다.")
+      description = "조회수와 판매량에 가중치를 적용한 인기 상품 목록을 조회합니다. window로 최근 24시간(24h), 최근 7일(7d) 구간을 지정할 수 있습니다.")
   @ApiResponses(
       value = {
         @io.swagger.v3.oas.annotations.responses.ApiResponse(
             responseCode = "200",
             description = "성공",
+            content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+            responseCode = "400",
+            description = "지원하지 않는 랭킹 구간",
             content = @Content(schema = @Schema(implementation = ApiResponse.class)))
       })
   ApiResponse<List<PopularProductResponse>> getPopularProducts(PopularProductRequest request);
@@ -10,7 +10,10 @@ public record PopularProductRequest(
     @Schema(description = "인기 상품 조회 개수", example = "10")
     @Positive(message = "0 이상의 숫자를 입력해주세요.")
     @Max(value = 100, message = "100개 이하의 상품만 조회가 가능합니다.")
-    Integer limit
+    Integer limit,
+
+    @Schema(description = "랭킹 집계 구간 (all, 24h, 7d)", example = "24h")
+    String window
 ) {
 
 }
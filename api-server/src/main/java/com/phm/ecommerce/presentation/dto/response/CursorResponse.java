@@ -0,0 +1,11 @@
+package com.phm.ecommerce.presentation.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "커서 기반 페이지네이션 응답")
+public record CursorResponse<T>(
+    @Schema(description = "컨텐츠 목록") List<T> content,
+    @Schema(description = "페이지당 항목 수", example = "20") int size,
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "aWQ6MjA") String nextCursor,
+    @Schema(description = "다음 페이지 존재 여부", example = "true") boolean hasNext) {}
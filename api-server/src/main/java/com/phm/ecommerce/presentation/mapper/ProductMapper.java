@@ -3,8 +3,11 @@ package com.phm.ecommerce.presentation.mapper;
 import com.phm.ecommerce.application.usecase.product.GetPopularProductsUseCase;
 import com.phm.ecommerce.application.usecase.product.GetPopularProductsUseCase.Input;
 import com.phm.ecommerce.application.usecase.product.GetProductByIdUseCase;
+import com.phm.ecommerce.application.usecase.product.GetProductsByCursorUseCase;
 import com.phm.ecommerce.application.usecase.product.GetProductsUseCase;
+import com.phm.ecommerce.infrastructure.cache.RankingWindow;
 import com.phm.ecommerce.presentation.dto.request.PopularProductRequest;
+import com.phm.ecommerce.presentation.dto.response.CursorResponse;
 import com.phm.ecommerce.presentation.dto.response.PageResponse;
 import com.phm.ecommerce.presentation.dto.response.PopularProductResponse;
 import com.phm.ecommerce.presentation.dto.response.ProductResponse;
@@ -38,6 +41,21 @@ public class ProductMapper {
         pageOutput.isLast());
   }
 
+  public CursorResponse<ProductResponse> toCursorResponse(GetProductsByCursorUseCase.Output output) {
+    List<ProductResponse> content = output.items().stream()
+        .map(item -> new ProductResponse(
+            item.productId(),
+            item.name(),
+            item.price(),
+            item.quantity(),
+            item.viewCount(),
+            item.createdAt(),
+            item.updatedAt()))
+        .toList();
+
+    return new CursorResponse<>(content, output.size(), output.nextCursor(), output.hasNext());
+  }
+
   public GetProductByIdUseCase.Input toInput(Long productId) {
     return new GetProductByIdUseCase.Input(productId);
   }
@@ -69,6 +87,6 @@ public class ProductMapper {
   }
 
   public Input toInput(PopularProductRequest request) {
-    return new GetPopularProductsUseCase.Input(request.limit());
+    return new GetPopularProductsUseCase.Input(request.limit(), RankingWindow.from(request.window()));
   }
 }
@@ -14,15 +14,19 @@ import com.phm.ecommerce.support.TestContainerSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +40,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("비동기 쿠폰 발급 통합 테스트")
 class AsyncCouponIssueIntegrationTest extends TestContainerSupport {
 
+  private static final Logger log = LoggerFactory.getLogger(AsyncCouponIssueIntegrationTest.class);
+  private static final int LATENCY_USERS = 500;
+  private static final long LATENCY_STOCK = 50L;
+
   @Autowired
   private MockMvc mockMvc;
 
@@ -103,10 +111,23 @@ class AsyncCouponIssueIntegrationTest extends TestContainerSupport {
   }
 
   @Test
-  @DisplayName("비동기 쿠폰 발급 - 100명 요청, 배치 처리, 10명만 발급")
-  void requestCouponIssue_100Users_then_batch() throws Exception {
+  @DisplayName("비동기 쿠폰 발급 - 요청 순서대로 대기 순번을 반환")
+  void requestCouponIssue_returnsQueuePosition() throws Exception {
+    for (int i = 0; i < 3; i++) {
+      IssueCouponRequest request = new IssueCouponRequest(users.get(i).getId());
+      mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isAccepted())
+          .andExpect(jsonPath("$.data.queuePosition").value(i + 1));
+    }
+  }
+
+  @Test
+  @DisplayName("비동기 쿠폰 발급 - 재고 소진 후 요청은 대기열에 넣지 않음")
+  void requestCouponIssue_afterSoldOut() throws Exception {
     // given
-    for (int i = 0; i < 100; i++) {
+    for (int i = 0; i < 10; i++) {
       IssueCouponRequest request = new IssueCouponRequest(users.get(i).getId());
       mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
           .contentType(MediaType.APPLICATION_JSON)
@@ -114,9 +135,56 @@ class AsyncCouponIssueIntegrationTest extends TestContainerSupport {
           .andExpect(status().isAccepted());
     }
 
+    // when
+    IssueCouponRequest request = new IssueCouponRequest(users.get(10).getId());
+    mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict())
+        .andExpect(jsonPath("$.status").value(false));
+
+    // then
+    assertThat(couponQueueService.getQueueSize(coupon.getId())).isEqualTo(10L);
+  }
+
+  @Test
+  @DisplayName("비동기 쿠폰 발급 - 이미 발급받은 사용자는 대기열에 넣지 않음")
+  void requestCouponIssue_alreadyIssued() throws Exception {
+    // given
+    User user = users.getFirst();
+    IssueCouponRequest request = new IssueCouponRequest(user.getId());
+    mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isAccepted());
+    couponIssueBatchService.processCouponQueue(coupon.getId());
+
+    // when
+    mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isConflict());
+
+    // then
+    assertThat(couponQueueService.getQueueSize(coupon.getId())).isZero();
+    assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("비동기 쿠폰 발급 - 100명 요청, 10명만 대기열에 들어가 발급")
+  void requestCouponIssue_100Users_then_batch() throws Exception {
+    // given: 재고 10개를 넘는 요청은 Redis에서 바로 거절된다
+    for (int i = 0; i < 100; i++) {
+      IssueCouponRequest request = new IssueCouponRequest(users.get(i).getId());
+      mockMvc.perform(post("/api/v1/coupons/{couponId}/request", coupon.getId())
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(objectMapper.writeValueAsString(request)))
+          .andExpect(i < 10 ? status().isAccepted() : status().isConflict());
+    }
+
     // then
     long queueSizeBeforeBatch = couponQueueService.getQueueSize(coupon.getId());
-    assertThat(queueSizeBeforeBatch).isEqualTo(100L);
+    assertThat(queueSizeBeforeBatch).isEqualTo(10L);
 
     // when
     CouponIssueBatchService.ProcessResult result = couponIssueBatchService.processCouponQueue(coupon.getId());
@@ -168,4 +236,45 @@ class AsyncCouponIssueIntegrationTest extends TestContainerSupport {
       assertThat(issued).as("User %d should NOT have coupon", i).isFalse();
     }
   }
+
+  @Test
+  @DisplayName("비동기 쿠폰 발급 - 500명 요청의 응답 시간 p99를 기록")
+  void requestCouponIssue_measureLatencyPercentiles() throws Exception {
+    // given: 재고 50개 쿠폰에 500명이 차례로 요청
+    Coupon limited = couponRepository.save(Coupon.create("응답 시간 측정 쿠폰", 5000L, LATENCY_STOCK, 30));
+    List<Long> userIds = new ArrayList<>();
+    for (int i = 0; i < LATENCY_USERS; i++) {
+      userIds.add(userRepository.save(User.create()).getId());
+    }
+
+    // when: 요청마다 카운터 확인부터 대기 순번 조회까지 스크립트 한 번으로 끝나는 경로의 응답 시간을 잰다
+    long[] latencies = new long[LATENCY_USERS];
+    int accepted = 0;
+    for (int i = 0; i < LATENCY_USERS; i++) {
+      IssueCouponRequest request = new IssueCouponRequest(userIds.get(i));
+      long startedAt = System.nanoTime();
+      int status = mockMvc.perform(post("/api/v1/coupons/{couponId}/request", limited.getId())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(objectMapper.writeValueAsString(request)))
+          .andReturn().getResponse().getStatus();
+      latencies[i] = System.nanoTime() - startedAt;
+      if (status == HttpStatus.ACCEPTED.value()) {
+        accepted++;
+      }
+    }
+
+    // then: 재고만큼만 대기열에 들어가야 함
+    assertThat(accepted).isEqualTo((int) LATENCY_STOCK);
+    assertThat(couponQueueService.getQueueSize(limited.getId())).isEqualTo(LATENCY_STOCK);
+
+    Arrays.sort(latencies);
+    log.info("[벤치마크] 쿠폰 발급 요청 {}건 - p50: {} ms, p99: {} ms, max: {} ms",
+        LATENCY_USERS, percentile(latencies, 50) / 1_000_000.0,
+        percentile(latencies, 99) / 1_000_000.0, latencies[latencies.length - 1] / 1_000_000.0);
+  }
+
+  private long percentile(long[] sorted, int percentile) {
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(index, 0)];
+  }
 }
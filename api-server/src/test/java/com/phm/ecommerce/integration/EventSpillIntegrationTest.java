@@ -0,0 +1,215 @@
+package com.phm.ecommerce.integration;
+
+import com.phm.ecommerce.infrastructure.event.async.AsyncEventDispatcher;
+import com.phm.ecommerce.infrastructure.event.async.AsyncEventHandler;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillDrainer;
+import com.phm.ecommerce.infrastructure.event.async.EventSpillQueue;
+import com.phm.ecommerce.infrastructure.event.async.EventTask;
+import com.phm.ecommerce.infrastructure.event.config.EventRejectedExecutionHandler;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실행기 포화를 재현하기 위해 동시 실행 1, 대기 0으로 줄인다
+@SpringBootTest(properties = {
+    "async.executor.max-concurrency=1",
+    "async.executor.max-pending=0"
+})
+@DisplayName("이벤트 실행기 포화 시 Redis 오버플로 테스트")
+class EventSpillIntegrationTest extends TestContainerSupport {
+
+  @Autowired private EventRejectedExecutionHandler eventRejectedExecutionHandler;
+
+  @Autowired private AsyncEventDispatcher asyncEventDispatcher;
+
+  @Autowired private EventSpillQueue eventSpillQueue;
+
+  @Autowired private EventSpillDrainer eventSpillDrainer;
+
+  @Autowired private RecordingEventHandler recordingEventHandler;
+
+  @Autowired private StringRedisTemplate stringRedisTemplate;
+
+  private ThreadPoolExecutor saturatedExecutor;
+
+  @BeforeEach
+  void setUp() {
+    stringRedisTemplate.delete(List.of("event:spill:queue", "event:spill:processing"));
+    recordingEventHandler.reset(1);
+    saturatedExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    recordingEventHandler.open();
+    saturatedExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("거부된 이벤트는 제출 스레드를 기다리게 하지 않고 Redis로 넘겨졌다가 재투입되어 처리된다")
+  void rejectedEvent_shouldSpillToRedisAndBeDrainedLater() throws Exception {
+    // given
+    SpillTestEvent event = new SpillTestEvent(1L, "포화 이벤트");
+
+    // when - 실행기가 거부한 작업을 처리한다
+    long startedAt = System.nanoTime();
+    eventRejectedExecutionHandler.rejectedExecution(
+        new EventTask(event, recordingEventHandler), saturatedExecutor);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+    // then - 재시도 대기 없이 반환되고 이벤트는 Redis에 남는다
+    assertThat(elapsedMillis).isLessThan(100L);
+    assertThat(eventSpillQueue.size()).isEqualTo(1L);
+    assertThat(recordingEventHandler.handled()).isEmpty();
+
+    // when - 실행기에 여유가 생겨 재투입한다
+    eventSpillDrainer.drain();
+
+    // then - 원래 핸들러가 같은 이벤트를 처리하고 처리 완료가 기록된다
+    assertThat(recordingEventHandler.await()).isTrue();
+    assertThat(recordingEventHandler.handled()).containsExactly(event);
+    assertThat(eventSpillQueue.size()).isZero();
+    assertThat(awaitProcessingEmpty()).isTrue();
+  }
+
+  @Test
+  @DisplayName("가상 스레드 실행기의 대기 한도를 넘은 이벤트는 Redis로 넘겨진다")
+  void dispatch_shouldSpillWhenVirtualExecutorIsSaturated() throws Exception {
+    // given - 첫 이벤트가 유일한 실행 허가를 잡고 멈춰 있다
+    recordingEventHandler.reset(2);
+    recordingEventHandler.close();
+    SpillTestEvent first = new SpillTestEvent(1L, "실행 중 이벤트");
+    SpillTestEvent second = new SpillTestEvent(2L, "넘겨질 이벤트");
+    asyncEventDispatcher.dispatch(first);
+    assertThat(recordingEventHandler.awaitStarted()).isTrue();
+
+    // when
+    asyncEventDispatcher.dispatch(second);
+
+    // then - 두 번째 이벤트는 실행기 대신 Redis에 남는다
+    assertThat(eventSpillQueue.size()).isEqualTo(1L);
+
+    // when - 첫 이벤트가 끝난 뒤 재투입한다
+    recordingEventHandler.open();
+    assertThat(awaitCapacity()).isTrue();
+    eventSpillDrainer.drain();
+
+    // then
+    assertThat(recordingEventHandler.await()).isTrue();
+    assertThat(recordingEventHandler.handled()).containsExactly(first, second);
+  }
+
+  @Test
+  @DisplayName("재투입 도중 인스턴스가 죽어 처리 완료가 기록되지 않은 이벤트는 임대 만료 후 다시 처리된다")
+  void claimedEvent_shouldBeRedeliveredAfterLeaseExpires() throws Exception {
+    // given - 다른 인스턴스가 꺼냈지만 처리하지 못하고 죽었다 (임대 0초)
+    SpillTestEvent event = new SpillTestEvent(3L, "유실될 뻔한 이벤트");
+    eventSpillQueue.spill(event);
+    assertThat(eventSpillQueue.claim(10, 0)).hasSize(1);
+    assertThat(eventSpillQueue.size()).isZero();
+    Thread.sleep(10);
+
+    // when
+    eventSpillDrainer.drain();
+
+    // then
+    assertThat(recordingEventHandler.await()).isTrue();
+    assertThat(recordingEventHandler.handled()).containsExactly(event);
+    assertThat(awaitProcessingEmpty()).isTrue();
+  }
+
+  private boolean awaitProcessingEmpty() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (eventSpillQueue.processingSize() > 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    return eventSpillQueue.processingSize() == 0;
+  }
+
+  private boolean awaitCapacity() throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (asyncEventDispatcher.availableCapacity() <= 0 && System.currentTimeMillis() < deadline) {
+      Thread.sleep(20);
+    }
+    return asyncEventDispatcher.availableCapacity() > 0;
+  }
+
+  record SpillTestEvent(Long id, String name) {
+  }
+
+  static class RecordingEventHandler implements AsyncEventHandler<SpillTestEvent> {
+
+    private final List<SpillTestEvent> handled = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch latch = new CountDownLatch(0);
+    private volatile CountDownLatch started = new CountDownLatch(1);
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @Override
+    public Class<SpillTestEvent> eventType() {
+      return SpillTestEvent.class;
+    }
+
+    @Override
+    public void handle(SpillTestEvent event) {
+      started.countDown();
+      try {
+        gate.await(5, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      handled.add(event);
+      latch.countDown();
+    }
+
+    void reset(int expectedCount) {
+      handled.clear();
+      latch = new CountDownLatch(expectedCount);
+      started = new CountDownLatch(1);
+    }
+
+    void close() {
+      gate = new CountDownLatch(1);
+    }
+
+    void open() {
+      gate.countDown();
+    }
+
+    boolean awaitStarted() throws InterruptedException {
+      return started.await(5, TimeUnit.SECONDS);
+    }
+
+    boolean await() throws InterruptedException {
+      return latch.await(5, TimeUnit.SECONDS);
+    }
+
+    List<SpillTestEvent> handled() {
+      return handled;
+    }
+  }
+
+  @TestConfiguration
+  static class EventHandlerTestConfig {
+
+    @Bean
+    RecordingEventHandler recordingEventHandler() {
+      return new RecordingEventHandler();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.phm.ecommerce.domain.cart.CartItem;
 import com.phm.ecommerce.domain.coupon.Coupon;
 import com.phm.ecommerce.domain.coupon.UserCoupon;
 import com.phm.ecommerce.domain.coupon.exception.CouponErrorCode;
+import com.phm.ecommerce.domain.outbox.OutboxEventType;
 import com.phm.ecommerce.domain.point.Point;
 import com.phm.ecommerce.domain.point.exception.PointErrorCode;
 import com.phm.ecommerce.domain.product.Product;
@@ -63,6 +64,9 @@ class OrderIntegrationTest extends TestContainerSupport {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
   private Long testUserId;
   private Product testProduct;
 
@@ -113,6 +117,15 @@ class OrderIntegrationTest extends TestContainerSupport {
     // 재고가 차감되었는지 확인
     Product updatedProduct = productRepository.findByIdOrThrow(testProduct.getId());
     assertThat(updatedProduct.getQuantity()).isEqualTo(98L); // 100 - 2
+
+    // 주문 생성 이벤트가 같은 트랜잭션에서 아웃박스에 기록되었는지 확인
+    assertThat(outboxEventRepository.findAll())
+        .filteredOn(event -> event.getPayload().contains("\"userId\":" + testUserId + ","))
+        .singleElement()
+        .satisfies(event -> {
+          assertThat(event.getEventType()).isEqualTo(OutboxEventType.ORDER_CREATED);
+          assertThat(event.getAttemptCount()).isZero();
+        });
   }
 
   @Test
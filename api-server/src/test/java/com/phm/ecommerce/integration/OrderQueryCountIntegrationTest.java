@@ -0,0 +1,92 @@
+package com.phm.ecommerce.integration;
+
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase;
+import com.phm.ecommerce.application.usecase.order.CreateOrderUseCase.CartItemCouponInfo;
+import com.phm.ecommerce.domain.cart.CartItem;
+import com.phm.ecommerce.domain.coupon.Coupon;
+import com.phm.ecommerce.domain.coupon.UserCoupon;
+import com.phm.ecommerce.domain.point.Point;
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.user.User;
+import com.phm.ecommerce.infrastructure.repository.CartItemRepository;
+import com.phm.ecommerce.infrastructure.repository.CouponRepository;
+import com.phm.ecommerce.infrastructure.repository.PointRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
+import com.phm.ecommerce.infrastructure.repository.UserRepository;
+import com.phm.ecommerce.support.QueryCountInspector;
+import com.phm.ecommerce.support.QueryCountInspector.QueryCount;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("장바구니 주문 쿼리 수 테스트")
+class OrderQueryCountIntegrationTest extends TestContainerSupport {
+
+  @Autowired private CreateOrderUseCase createOrderUseCase;
+
+  @Autowired private ProductRepository productRepository;
+
+  @Autowired private CartItemRepository cartItemRepository;
+
+  @Autowired private CouponRepository couponRepository;
+
+  @Autowired private UserCouponRepository userCouponRepository;
+
+  @Autowired private PointRepository pointRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Test
+  @DisplayName("장바구니 항목 수와 관계없이 조회, 삽입, 삭제 쿼리 수가 일정하다")
+  void createOrder_shouldRunFixedNumberOfQueries() {
+    // given
+    CreateOrderUseCase.Input singleItemOrder = prepareOrder(1);
+    CreateOrderUseCase.Input manyItemsOrder = prepareOrder(5);
+
+    // when
+    QueryCount single = countQueries(singleItemOrder);
+    QueryCount many = countQueries(manyItemsOrder);
+
+    // then - 장바구니, 상품, 사용자 쿠폰, 쿠폰, 포인트를 각각 한 번씩만 조회한다
+    assertThat(single.select()).isEqualTo(5);
+    assertThat(many.select()).isEqualTo(single.select());
+    assertThat(many.delete()).isEqualTo(1);
+    // 주문 항목은 JDBC 배치로 묶여 항목 수만큼 INSERT 문이 준비되지 않는다
+    assertThat(many.insert()).isEqualTo(single.insert());
+    assertThat(cartItemRepository.findAllByIds(manyItemsOrder.cartItemCouponMaps().stream()
+        .map(CartItemCouponInfo::cartItemId)
+        .toList())).isEmpty();
+  }
+
+  private QueryCount countQueries(CreateOrderUseCase.Input input) {
+    QueryCountInspector.start();
+    createOrderUseCase.execute(input);
+    return QueryCountInspector.stop();
+  }
+
+  private CreateOrderUseCase.Input prepareOrder(int itemCount) {
+    User user = userRepository.save(User.create());
+    Point point = Point.create(user.getId());
+    point.charge(1000000L);
+    pointRepository.save(point);
+
+    List<CartItemCouponInfo> items = new ArrayList<>();
+    for (int i = 0; i < itemCount; i++) {
+      Product product = productRepository.save(Product.create("쿼리 수 상품 " + i, 10000L, 100L));
+      CartItem cartItem = cartItemRepository.save(CartItem.create(user.getId(), product.getId(), 1L));
+      Coupon coupon = couponRepository.save(Coupon.create("쿼리 수 쿠폰 " + i, 1000L, 10L, 30));
+      UserCoupon userCoupon = userCouponRepository.save(UserCoupon.issue(user.getId(), coupon.getId(), 30));
+      items.add(new CartItemCouponInfo(cartItem.getId(), userCoupon.getId()));
+    }
+    return new CreateOrderUseCase.Input(user.getId(), items);
+  }
+}
@@ -0,0 +1,179 @@
+package com.phm.ecommerce.integration;
+
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService.ProductInfo;
+import com.phm.ecommerce.infrastructure.cache.ProductLocalCache;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("상품 캐시 조회 벤치마크 (건별 GET/SET vs MGET/파이프라인)")
+class ProductCacheBenchmarkIntegrationTest extends TestContainerSupport {
+
+  private static final Logger log = LoggerFactory.getLogger(ProductCacheBenchmarkIntegrationTest.class);
+  private static final int PRODUCT_COUNT = 100;
+
+  @Autowired
+  private ProductCacheService productCacheService;
+
+  @Autowired
+  private ProductLocalCache productLocalCache;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private RedisTemplate<String, Object> redisTemplate;
+
+  private List<Long> productIds;
+
+  @BeforeEach
+  void setUp() {
+    productIds = new ArrayList<>();
+    for (int i = 0; i < PRODUCT_COUNT; i++) {
+      Product product = productRepository.save(Product.create("상품" + i, 1000L + i, 100L));
+      productIds.add(product.getId());
+    }
+    clearCaches();
+  }
+
+  @AfterEach
+  void tearDown() {
+    // 테스트 트랜잭션은 롤백되므로 캐시에 남은 상품도 지운다
+    clearCaches();
+  }
+
+  @Test
+  @DisplayName("캐시 미스 100건 - 백필은 파이프라인 SET 한 번의 왕복으로 처리된다")
+  void backfill_UsesPipelinedSet() {
+    // given - 기존 방식: 건별 GET 후 건별 SET
+    List<Product> products = productRepository.findAllByIds(productIds);
+    CommandStats before = readCommandStats();
+    long legacyStart = System.nanoTime();
+    for (Product product : products) {
+      redisTemplate.opsForValue().get(RedisCacheKeys.productCache(product.getId()));
+    }
+    for (Product product : products) {
+      redisTemplate.opsForValue().set(RedisCacheKeys.productCache(product.getId()),
+          toProductInfo(product), Duration.ofMinutes(30));
+    }
+    long legacyNanos = System.nanoTime() - legacyStart;
+    CommandStats legacy = readCommandStats().minus(before);
+    clearCaches();
+
+    // when
+    before = readCommandStats();
+    long batchedStart = System.nanoTime();
+    List<ProductInfo> result = productCacheService.getProductsByIds(productIds);
+    long batchedNanos = System.nanoTime() - batchedStart;
+    CommandStats batched = readCommandStats().minus(before);
+
+    // then
+    report("캐시 미스 백필", legacy, legacyNanos, batched, batchedNanos);
+    assertThat(result).hasSize(PRODUCT_COUNT);
+    assertThat(legacy.roundTrips()).isEqualTo(PRODUCT_COUNT * 2L);
+    assertThat(batched.get()).isZero();
+    assertThat(batched.mget()).isEqualTo(1);
+    assertThat(batched.set()).isEqualTo(PRODUCT_COUNT);
+    assertThat(redisTemplate.hasKey(RedisCacheKeys.productCache(productIds.get(0)))).isTrue();
+  }
+
+  @Test
+  @DisplayName("Redis 히트 100건 - 건별 GET 100번 대신 MGET 한 번으로 조회한다")
+  void read_UsesSingleMget() {
+    // given
+    productCacheService.getProductsByIds(productIds);
+    productIds.forEach(productLocalCache::invalidate);
+
+    CommandStats before = readCommandStats();
+    long legacyStart = System.nanoTime();
+    for (Long productId : productIds) {
+      redisTemplate.opsForValue().get(RedisCacheKeys.productCache(productId));
+    }
+    long legacyNanos = System.nanoTime() - legacyStart;
+    CommandStats legacy = readCommandStats().minus(before);
+
+    // when
+    before = readCommandStats();
+    long batchedStart = System.nanoTime();
+    List<ProductInfo> result = productCacheService.getProductsByIds(productIds);
+    long batchedNanos = System.nanoTime() - batchedStart;
+    CommandStats batched = readCommandStats().minus(before);
+
+    // then
+    report("Redis 히트 조회", legacy, legacyNanos, batched, batchedNanos);
+    assertThat(result).extracting(ProductInfo::id).containsExactlyElementsOf(productIds);
+    assertThat(legacy.get()).isEqualTo(PRODUCT_COUNT);
+    assertThat(batched.get()).isZero();
+    assertThat(batched.mget()).isEqualTo(1);
+    assertThat(batched.set()).isZero();
+  }
+
+  private void clearCaches() {
+    redisTemplate.delete(productIds.stream().map(RedisCacheKeys::productCache).toList());
+    productIds.forEach(productLocalCache::invalidate);
+  }
+
+  private void report(String scenario, CommandStats legacy, long legacyNanos,
+      CommandStats batched, long batchedNanos) {
+    log.info("[벤치마크] {} - 기존: 왕복 {}회, {} ms / 개선: MGET {}회 + 파이프라인 1회, {} ms",
+        scenario, legacy.roundTrips(), legacyNanos / 1_000_000.0,
+        batched.mget(), batchedNanos / 1_000_000.0);
+  }
+
+  private CommandStats readCommandStats() {
+    Properties info = redisTemplate.execute(
+        (RedisCallback<Properties>) connection -> connection.serverCommands().info("commandstats"));
+    return new CommandStats(
+        calls(info, "get"),
+        calls(info, "mget"),
+        calls(info, "set"));
+  }
+
+  private long calls(Properties info, String command) {
+    String value = info != null ? info.getProperty("cmdstat_" + command) : null;
+    if (value == null) {
+      return 0;
+    }
+    // calls=10,usec=...,usec_per_call=...
+    return Long.parseLong(value.substring("calls=".length(), value.indexOf(',')));
+  }
+
+  private ProductInfo toProductInfo(Product product) {
+    return new ProductInfo(product.getId(), product.getName(), product.getPrice(),
+        product.getQuantity(), product.getViewCount(), product.getSalesCount(),
+        product.getCreatedAt(), product.getUpdatedAt());
+  }
+
+  private record CommandStats(long get, long mget, long set) {
+
+    CommandStats minus(CommandStats other) {
+      return new CommandStats(get - other.get, mget - other.mget, set - other.set);
+    }
+
+    long roundTrips() {
+      return get + mget + set;
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.phm.ecommerce.integration;
+
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService.CachedProduct;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService.ProductInfo;
+import com.phm.ecommerce.infrastructure.cache.ProductLocalCache;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("상품 캐시 스탬피드 방지 / 네거티브 캐시 테스트")
+class ProductCacheStampedeIntegrationTest extends TestContainerSupport {
+
+  private static final int CONCURRENT_REQUESTS = 30;
+
+  @Autowired private ProductCacheService productCacheService;
+
+  @Autowired private ProductLocalCache productLocalCache;
+
+  @Autowired private ProductRepository productRepository;
+
+  @Autowired private RedisTemplate<String, Object> redisTemplate;
+
+  private Long productId;
+
+  @AfterEach
+  void tearDown() {
+    if (productId != null) {
+      productCacheService.evictProductCache(productId);
+      productRepository.deleteById(productId);
+    }
+  }
+
+  @Test
+  @DisplayName("캐시가 비어 있을 때 동시 요청이 몰려도 로딩과 캐시 적재는 한 번만 일어난다")
+  void concurrentMisses_shouldLoadOnce() throws InterruptedException {
+    // given
+    productId = productRepository.save(Product.create("핫딜 상품", 10000L, 100L)).getId();
+    productCacheService.evictProductCache(productId);
+
+    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+    CountDownLatch startLatch = new CountDownLatch(1);
+    CountDownLatch doneLatch = new CountDownLatch(CONCURRENT_REQUESTS);
+    AtomicInteger foundCount = new AtomicInteger(0);
+    long setCallsBefore = setCalls();
+
+    // when
+    for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+      executorService.submit(() -> {
+        try {
+          startLatch.await();
+          List<ProductInfo> result = productCacheService.getProductsByIds(List.of(productId));
+          if (result.size() == 1) {
+            foundCount.incrementAndGet();
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          doneLatch.countDown();
+        }
+      });
+    }
+    startLatch.countDown();
+    assertThat(doneLatch.await(10, TimeUnit.SECONDS)).isTrue();
+    executorService.shutdown();
+
+    // then
+    assertThat(foundCount.get()).isEqualTo(CONCURRENT_REQUESTS);
+    assertThat(setCalls() - setCallsBefore).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 상품 ID는 짧은 TTL의 네거티브 엔트리로 캐시된다")
+  void missingProduct_shouldBeNegativelyCached() {
+    // given
+    Long missingProductId = Long.MAX_VALUE - 1;
+    String cacheKey = RedisCacheKeys.productCache(missingProductId);
+    redisTemplate.delete(cacheKey);
+    productLocalCache.invalidate(missingProductId);
+
+    // when
+    List<ProductInfo> first = productCacheService.getProductsByIds(List.of(missingProductId));
+    productLocalCache.invalidate(missingProductId);
+    long setCallsBefore = setCalls();
+    List<ProductInfo> second = productCacheService.getProductsByIds(List.of(missingProductId));
+
+    // then
+    assertThat(first).isEmpty();
+    assertThat(second).isEmpty();
+    assertThat(setCalls() - setCallsBefore).isZero();
+
+    Object cached = redisTemplate.opsForValue().get(cacheKey);
+    assertThat(cached).isInstanceOf(CachedProduct.class);
+    assertThat(((CachedProduct) cached).product()).isNull();
+    assertThat(redisTemplate.getExpire(cacheKey, TimeUnit.SECONDS)).isBetween(1L, 30L);
+
+    redisTemplate.delete(cacheKey);
+  }
+
+  @Test
+  @DisplayName("상품 저장으로 캐시가 삭제되면 네거티브 엔트리도 함께 사라진다")
+  void evict_shouldClearNegativeEntry() {
+    // given
+    Long missingProductId = Long.MAX_VALUE - 2;
+    productCacheService.getProductsByIds(List.of(missingProductId));
+
+    // when
+    productCacheService.evictProductCache(missingProductId);
+
+    // then
+    assertThat(redisTemplate.hasKey(RedisCacheKeys.productCache(missingProductId))).isFalse();
+  }
+
+  private long setCalls() {
+    Properties info = redisTemplate.execute(
+        (RedisCallback<Properties>) connection -> connection.serverCommands().info("commandstats"));
+    String value = info != null ? info.getProperty("cmdstat_set") : null;
+    if (value == null) {
+      return 0;
+    }
+    return Long.parseLong(value.substring("calls=".length(), value.indexOf(',')));
+  }
+}
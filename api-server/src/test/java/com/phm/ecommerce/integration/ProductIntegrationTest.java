@@ -1,5 +1,6 @@
 package com.phm.ecommerce.integration;
 
+import com.jayway.jsonpath.JsonPath;
 import com.phm.ecommerce.domain.product.Product;
 import com.phm.ecommerce.domain.product.exception.ProductErrorCode;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
@@ -13,6 +14,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -53,6 +59,57 @@ class ProductIntegrationTest extends TestContainerSupport {
         .andExpect(jsonPath("$.data.content[1].price").value(50000));
   }
 
+  @Test
+  @DisplayName("상품 목록 커서 조회 - 성공 (nextCursor로 끝까지 중복 없이 이어서 조회)")
+  void getProductsByCursor_Success() throws Exception {
+    // given
+    Long laptopId = productRepository.save(Product.create("노트북", 1500000L, 10L)).getId();
+    Long mouseId = productRepository.save(Product.create("마우스", 50000L, 20L)).getId();
+    Long keyboardId = productRepository.save(Product.create("키보드", 80000L, 30L)).getId();
+
+    // when
+    List<Long> productIds = new ArrayList<>();
+    String cursor = null;
+    boolean hasNext = true;
+    while (hasNext) {
+      var request = get("/api/v1/products/cursor")
+          .param("size", "2")
+          .contentType(MediaType.APPLICATION_JSON);
+      if (cursor != null) {
+        request.param("cursor", cursor);
+      }
+
+      String body = mockMvc.perform(request)
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.status").value(true))
+          .andExpect(jsonPath("$.data.content.length()").value(lessThanOrEqualTo(2)))
+          .andReturn().getResponse().getContentAsString();
+
+      List<Number> pageIds = JsonPath.read(body, "$.data.content[*].productId");
+      pageIds.forEach(id -> productIds.add(id.longValue()));
+      hasNext = JsonPath.read(body, "$.data.hasNext");
+      cursor = JsonPath.read(body, "$.data.nextCursor");
+    }
+
+    // then
+    assertThat(productIds).doesNotHaveDuplicates().isSorted();
+    assertThat(productIds).containsSubsequence(laptopId, mouseId, keyboardId);
+    assertThat(cursor).isNull();
+  }
+
+  @Test
+  @DisplayName("상품 목록 커서 조회 - 실패 (유효하지 않은 커서)")
+  void getProductsByCursor_InvalidCursor() throws Exception {
+    // when & then
+    mockMvc.perform(get("/api/v1/products/cursor")
+            .param("cursor", "not-a-cursor")
+            .contentType(MediaType.APPLICATION_JSON))
+        .andDo(print())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value(false))
+        .andExpect(jsonPath("$.error.code").value(ProductErrorCode.INVALID_CURSOR.getCode()));
+  }
+
   @Test
   @DisplayName("상품 단건 조회 - 성공 (조회수 증가)")
   void getProductById_Success() throws Exception {
@@ -74,6 +131,27 @@ class ProductIntegrationTest extends TestContainerSupport {
         .andExpect(jsonPath("$.data.viewCount").value(initialViewCount + 1));
   }
 
+  @Test
+  @DisplayName("상품 단건 조회 - 조회수는 DB에 즉시 쓰지 않고 누적해 응답에 반영한다")
+  void getProductById_DoesNotWriteViewCount() throws Exception {
+    // given
+    Product savedProduct = productRepository.save(Product.create("키보드", 80000L, 10L));
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      mockMvc.perform(get("/api/v1/products/{productId}", savedProduct.getId())
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk());
+    }
+
+    // then
+    mockMvc.perform(get("/api/v1/products/{productId}", savedProduct.getId())
+            .contentType(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.data.viewCount").value(4));
+    assertThat(productRepository.findByIdOrThrow(savedProduct.getId()).getViewCount()).isZero();
+  }
+
   @Test
   @DisplayName("상품 단건 조회 - 실패 (존재하지 않는 상품)")
   void getProductById_NotFound() throws Exception {
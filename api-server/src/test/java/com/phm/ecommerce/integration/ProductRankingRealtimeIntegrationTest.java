@@ -0,0 +1,134 @@
+package com.phm.ecommerce.integration;
+
+import com.phm.ecommerce.application.usecase.order.CreateDirectOrderUseCase;
+import com.phm.ecommerce.application.usecase.product.GetProductByIdUseCase;
+import com.phm.ecommerce.domain.point.Point;
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.domain.user.User;
+import com.phm.ecommerce.infrastructure.cache.ProductRankingService;
+import com.phm.ecommerce.infrastructure.cache.RankingWindow;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.repository.PointRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.infrastructure.repository.UserRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@DisplayName("인기 상품 랭킹 실시간 반영 테스트")
+class ProductRankingRealtimeIntegrationTest extends TestContainerSupport {
+
+  @Autowired private CreateDirectOrderUseCase createDirectOrderUseCase;
+
+  @Autowired private GetProductByIdUseCase getProductByIdUseCase;
+
+  @Autowired private ProductRepository productRepository;
+
+  @Autowired private UserRepository userRepository;
+
+  @Autowired private PointRepository pointRepository;
+
+  @Autowired private RedisTemplate<String, Object> redisTemplate;
+
+  @Autowired private ProductRankingService productRankingService;
+
+  private Long productId;
+  private Long userId;
+
+  @BeforeEach
+  void setUp() {
+    productId = productRepository.save(Product.create("실시간 랭킹 상품", 10000L, 100L)).getId();
+
+    User user = userRepository.save(User.create());
+    Point point = Point.create(user.getId());
+    point.charge(1000000L);
+    pointRepository.save(point);
+    userId = user.getId();
+  }
+
+  @AfterEach
+  void tearDown() {
+    LocalDateTime now = LocalDateTime.now();
+    redisTemplate.opsForZSet().remove(RedisCacheKeys.PRODUCT_RANKING, productId);
+    redisTemplate.opsForZSet().remove(RedisCacheKeys.productRankingBucket(ChronoUnit.HOURS, now), productId);
+    redisTemplate.opsForZSet().remove(RedisCacheKeys.productRankingBucket(ChronoUnit.DAYS, now), productId);
+  }
+
+  @Test
+  @DisplayName("주문이 커밋되면 이벤트 실행기에서 판매량 가중치만큼 랭킹 점수가 증가한다")
+  void order_shouldIncrementRankingScore() throws InterruptedException {
+    // when
+    createDirectOrderUseCase.execute(new CreateDirectOrderUseCase.Input(userId, productId, 3L, null));
+
+    // then
+    assertThat(awaitRankingScore(3 * Product.SALES_SCORE_WEIGHT))
+        .isCloseTo(3 * Product.SALES_SCORE_WEIGHT, within(0.0001));
+  }
+
+  @Test
+  @DisplayName("상품을 조회하면 조회수 가중치만큼 랭킹 점수가 즉시 증가한다")
+  void view_shouldIncrementRankingScore() {
+    // when
+    getProductByIdUseCase.execute(new GetProductByIdUseCase.Input(productId));
+    getProductByIdUseCase.execute(new GetProductByIdUseCase.Input(productId));
+
+    // then
+    assertThat(rankingScore()).isCloseTo(2 * Product.VIEW_SCORE_WEIGHT, within(0.0001));
+  }
+
+  @Test
+  @DisplayName("최근 24시간 구간 랭킹은 구간 안의 활동만 합산하고 DB로 대체하지 않는다")
+  void windowedRanking_shouldOnlyIncludeRecentActivity() throws InterruptedException {
+    // given - 구간 밖(30시간 전) 버킷에만 점수가 있는 상품
+    LocalDateTime now = LocalDateTime.now();
+    Long staleProductId = productRepository.save(Product.create("지난 랭킹 상품", 10000L, 100L)).getId();
+    String staleBucket = RedisCacheKeys.productRankingBucket(ChronoUnit.HOURS, now.minusHours(30));
+    redisTemplate.opsForZSet().add(staleBucket, staleProductId, 1000.0);
+    redisTemplate.delete(RedisCacheKeys.productRankingWindow(
+        RankingWindow.LAST_24_HOURS.getCode(), ChronoUnit.HOURS, now));
+
+    createDirectOrderUseCase.execute(new CreateDirectOrderUseCase.Input(userId, productId, 1L, null));
+    awaitRankingScore(Product.SALES_SCORE_WEIGHT);
+
+    try {
+      // when
+      List<Long> productIds = productRankingService.getTopProductIds(100, RankingWindow.LAST_24_HOURS);
+
+      // then
+      assertThat(productIds).contains(productId);
+      assertThat(productIds).doesNotContain(staleProductId);
+    } finally {
+      redisTemplate.delete(staleBucket);
+      redisTemplate.delete(RedisCacheKeys.productRankingWindow(
+          RankingWindow.LAST_24_HOURS.getCode(), ChronoUnit.HOURS, now));
+    }
+  }
+
+  // 판매량은 커밋 후 이벤트 실행기에서 비동기로 반영된다
+  private Double awaitRankingScore(double expected) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    Double score = rankingScore();
+    while ((score == null || Math.abs(score - expected) > 0.0001) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+      score = rankingScore();
+    }
+    return score;
+  }
+
+  private Double rankingScore() {
+    return redisTemplate.opsForZSet().score(RedisCacheKeys.PRODUCT_RANKING, productId);
+  }
+}
@@ -4,15 +4,23 @@ import com.phm.ecommerce.application.usecase.order.CreateDirectOrderUseCase;
 import com.phm.ecommerce.domain.point.Point;
 import com.phm.ecommerce.domain.product.Product;
 import com.phm.ecommerce.domain.user.User;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
 import com.phm.ecommerce.infrastructure.repository.PointRepository;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductStockProperties;
+import com.phm.ecommerce.infrastructure.repository.ProductStockProperties.DecrementMode;
 import com.phm.ecommerce.infrastructure.repository.UserRepository;
 import com.phm.ecommerce.support.TestContainerSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,75 +32,177 @@ import java.util.concurrent.atomic.AtomicInteger;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
-@SpringBootTest
+/**
+ * 차감 모드와 예약 상품 목록은 불변 설정이므로 모드마다 별도 컨텍스트를 띄워 검증한다.
+ */
 @DisplayName("상품 재고 동시성 테스트")
-class ProductStockConcurrencyIntegrationTest extends TestContainerSupport {
+class ProductStockConcurrencyIntegrationTest {
 
-  @Autowired private CreateDirectOrderUseCase createDirectOrderUseCase;
+  private static final Logger log = LoggerFactory.getLogger(ProductStockConcurrencyIntegrationTest.class);
 
-  @Autowired private ProductRepository productRepository;
-
-  @Autowired private UserRepository userRepository;
-
-  @Autowired private PointRepository pointRepository;
-
-  private Long productId;
   private static final Long INITIAL_STOCK = 10L;
   private static final int CONCURRENT_USERS = 20;
   private static final Long ORDER_QUANTITY = 1L;
   private static final Long PRODUCT_PRICE = 10000L;
+  private static final Long THROUGHPUT_STOCK = 1000L;
+  private static final int THROUGHPUT_ORDERS = 50;
+  // 예약 상품 목록은 기동 시점에 정해지므로 미리 알고 있는 ID로 상품을 만든다
+  private static final long RESERVED_PRODUCT_ID = 900_001L;
+
+  @Nested
+  @SpringBootTest(properties = "product.stock.decrement-mode=LOCK")
+  @DisplayName("상품 락 모드")
+  class LockMode extends DecrementModeScenario {
+  }
 
-  @BeforeEach
-  void setUp() {
-    Product product = Product.create("상품", PRODUCT_PRICE, INITIAL_STOCK);
-    product = productRepository.save(product);
-    productId = product.getId();
+  @Nested
+  @SpringBootTest(properties = "product.stock.decrement-mode=CONDITIONAL_UPDATE")
+  @DisplayName("조건부 UPDATE 모드")
+  class ConditionalUpdateMode extends DecrementModeScenario {
   }
 
-  @Test
-  @DisplayName("재고가 10개인 상품을 20명이 동시에 1개씩 주문 시 10명만 주문에 성공한다.")
-  void concurrentOrders_shouldLimitSuccessToInitialStock() throws InterruptedException {
-    // given
-    List<Long> userIds = new ArrayList<>();
-    for (int i = 0; i < CONCURRENT_USERS; i++) {
-      User user = userRepository.save(User.create());
-      Point point = Point.create(user.getId());
-      point.charge(100000L);
-      pointRepository.save(point);
-      userIds.add(user.getId());
+  @Nested
+  @SpringBootTest(properties = "product.stock.reserved-product-ids=" + RESERVED_PRODUCT_ID)
+  @DisplayName("Redis 재고 예약 상품")
+  class ReservedProduct extends StockConcurrencyScenario {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+      jdbcTemplate.update("DELETE FROM products WHERE id = ?", RESERVED_PRODUCT_ID);
+      jdbcTemplate.update(
+          "INSERT INTO products (id, name, price, quantity, view_count, sales_count, created_at, updated_at) "
+              + "VALUES (?, ?, ?, ?, 0, 0, NOW(6), NOW(6))",
+          RESERVED_PRODUCT_ID, "플래시 세일 상품", PRODUCT_PRICE, INITIAL_STOCK);
+      stringRedisTemplate.delete(RedisCacheKeys.productStock(RESERVED_PRODUCT_ID));
+      stringRedisTemplate.opsForHash()
+          .delete(RedisCacheKeys.PRODUCT_STOCK_PENDING, String.valueOf(RESERVED_PRODUCT_ID));
+    }
+
+    @Test
+    @DisplayName("20명이 동시에 1개씩 주문 시 10명만 예약에 성공하고 실패한 주문의 예약은 남지 않는다.")
+    void concurrentOrders_shouldLimitReservationsToInitialStock() throws InterruptedException {
+      // given
+      assertThat(productStockProperties.isReserved(RESERVED_PRODUCT_ID)).isTrue();
+      List<Long> userIds = createUsers(CONCURRENT_USERS);
+
+      // when
+      OrderResult result = orderConcurrently(userIds, RESERVED_PRODUCT_ID);
+
+      // then - DB 확정은 배치가 하므로 Redis 카운터와 미확정 예약으로 검증한다
+      String counter = stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(RESERVED_PRODUCT_ID));
+      Object pending = stringRedisTemplate.opsForHash()
+          .get(RedisCacheKeys.PRODUCT_STOCK_PENDING, String.valueOf(RESERVED_PRODUCT_ID));
+      assertAll(
+          () -> assertThat(result.successCount()).isEqualTo(INITIAL_STOCK.intValue()),
+          () -> assertThat(counter).isEqualTo("0"),
+          () -> assertThat(pending).isEqualTo(String.valueOf(INITIAL_STOCK)),
+          () -> assertThat(productRepository.findByIdOrThrow(RESERVED_PRODUCT_ID).getQuantity())
+              .isEqualTo(INITIAL_STOCK));
+    }
+  }
+
+  abstract static class DecrementModeScenario extends StockConcurrencyScenario {
+
+    @Test
+    @DisplayName("재고가 10개인 상품을 20명이 동시에 1개씩 주문 시 10명만 주문에 성공한다.")
+    void concurrentOrders_shouldLimitSuccessToInitialStock() throws InterruptedException {
+      // given
+      Long productId = productRepository.save(Product.create("상품", PRODUCT_PRICE, INITIAL_STOCK)).getId();
+      List<Long> userIds = createUsers(CONCURRENT_USERS);
+
+      // when
+      OrderResult result = orderConcurrently(userIds, productId);
+
+      // then
+      Product finalProduct = productRepository.findByIdOrThrow(productId);
+      assertAll(
+          () -> assertThat(result.successCount() + result.failCount()).isEqualTo(CONCURRENT_USERS),
+          () -> assertThat(result.successCount()).isEqualTo(INITIAL_STOCK.intValue()),
+          () -> assertThat(finalProduct.getQuantity()).isZero(),
+          () -> assertThat(finalProduct.getSalesCount()).isEqualTo(INITIAL_STOCK),
+          () -> assertThat(result.successCount() + finalProduct.getQuantity()).isEqualTo(INITIAL_STOCK));
     }
 
-    ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_USERS);
-    CountDownLatch latch = new CountDownLatch(CONCURRENT_USERS);
-    AtomicInteger successCount = new AtomicInteger(0);
-    AtomicInteger failCount = new AtomicInteger(0);
-
-    // when
-    for (Long userId : userIds) {
-      executorService.submit(
-          () -> {
-            try {
-              CreateDirectOrderUseCase.Input input =
-                  new CreateDirectOrderUseCase.Input(userId, productId, ORDER_QUANTITY, null);
-              createDirectOrderUseCase.execute(input);
-              successCount.incrementAndGet();
-            } catch (Exception e) {
-              failCount.incrementAndGet();
-            } finally {
-              latch.countDown();
-            }
-          });
+    @Test
+    @DisplayName("재고가 충분하면 모든 주문이 성공하고, 모드별 처리량을 기록한다")
+    void measureThroughput() throws InterruptedException {
+      // given
+      DecrementMode mode = productStockProperties.getDecrementMode();
+      Long targetProductId = productRepository.save(
+          Product.create("처리량 비교 상품", PRODUCT_PRICE, THROUGHPUT_STOCK)).getId();
+      List<Long> userIds = createUsers(THROUGHPUT_ORDERS);
+
+      // when
+      long startedAt = System.nanoTime();
+      OrderResult result = orderConcurrently(userIds, targetProductId);
+      double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+      // then
+      Product finalProduct = productRepository.findByIdOrThrow(targetProductId);
+      assertThat(result.successCount()).isEqualTo(THROUGHPUT_ORDERS);
+      assertThat(finalProduct.getQuantity()).isEqualTo(THROUGHPUT_STOCK - THROUGHPUT_ORDERS);
+
+      log.info("재고 차감 모드별 처리량 - mode: {}, orders/sec: {}",
+          mode, String.format("%.1f", THROUGHPUT_ORDERS / elapsedSeconds));
     }
+  }
+
+  abstract static class StockConcurrencyScenario extends TestContainerSupport {
+
+    @Autowired protected CreateDirectOrderUseCase createDirectOrderUseCase;
+
+    @Autowired protected ProductRepository productRepository;
+
+    @Autowired protected UserRepository userRepository;
+
+    @Autowired protected PointRepository pointRepository;
 
-    latch.await();
-    executorService.shutdown();
+    @Autowired protected ProductStockProperties productStockProperties;
+
+    @Autowired protected StringRedisTemplate stringRedisTemplate;
+
+    protected List<Long> createUsers(int count) {
+      List<Long> userIds = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        User user = userRepository.save(User.create());
+        Point point = Point.create(user.getId());
+        point.charge(100000L);
+        pointRepository.save(point);
+        userIds.add(user.getId());
+      }
+      return userIds;
+    }
+
+    protected OrderResult orderConcurrently(List<Long> userIds, Long targetProductId) throws InterruptedException {
+      ExecutorService executorService = Executors.newFixedThreadPool(userIds.size());
+      CountDownLatch latch = new CountDownLatch(userIds.size());
+      AtomicInteger successCount = new AtomicInteger(0);
+      AtomicInteger failCount = new AtomicInteger(0);
+
+      for (Long userId : userIds) {
+        executorService.submit(
+            () -> {
+              try {
+                CreateDirectOrderUseCase.Input input =
+                    new CreateDirectOrderUseCase.Input(userId, targetProductId, ORDER_QUANTITY, null);
+                createDirectOrderUseCase.execute(input);
+                successCount.incrementAndGet();
+              } catch (Exception e) {
+                failCount.incrementAndGet();
+              } finally {
+                latch.countDown();
+              }
+            });
+      }
+
+      latch.await();
+      executorService.shutdown();
+      return new OrderResult(successCount.get(), failCount.get());
+    }
+  }
 
-    // then
-    Product finalProduct = productRepository.findByIdOrThrow(productId);
-    assertAll(
-        () -> assertThat(successCount.get() + failCount.get()).isEqualTo(CONCURRENT_USERS),
-        () -> assertThat(successCount.get()).isEqualTo(INITIAL_STOCK.intValue()),
-        () -> assertThat(finalProduct.getQuantity()).isZero(),
-        () -> assertThat(successCount.get() + finalProduct.getQuantity()).isEqualTo(INITIAL_STOCK));
+  record OrderResult(int successCount, int failCount) {
   }
 }
@@ -0,0 +1,69 @@
+package com.phm.ecommerce.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Locale;
+
+/**
+ * 현재 스레드에서 Hibernate가 실행한 SQL을 종류별로 센다. {@link #start()}와 {@link #stop()} 사이의 구간만 집계한다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+  private static final ThreadLocal<QueryCount> CURRENT = new ThreadLocal<>();
+
+  public static void start() {
+    CURRENT.set(new QueryCount());
+  }
+
+  public static QueryCount stop() {
+    QueryCount count = CURRENT.get();
+    CURRENT.remove();
+    return count;
+  }
+
+  @Override
+  public String inspect(String sql) {
+    QueryCount count = CURRENT.get();
+    if (count != null) {
+      count.record(sql);
+    }
+    return sql;
+  }
+
+  public static class QueryCount {
+
+    private int select;
+    private int insert;
+    private int update;
+    private int delete;
+
+    private void record(String sql) {
+      String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+      if (statement.startsWith("select")) {
+        select++;
+      } else if (statement.startsWith("insert")) {
+        insert++;
+      } else if (statement.startsWith("update")) {
+        update++;
+      } else if (statement.startsWith("delete")) {
+        delete++;
+      }
+    }
+
+    public int select() {
+      return select;
+    }
+
+    public int insert() {
+      return insert;
+    }
+
+    public int update() {
+      return update;
+    }
+
+    public int delete() {
+      return delete;
+    }
+  }
+}
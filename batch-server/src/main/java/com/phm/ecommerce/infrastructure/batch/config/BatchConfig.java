@@ -1,9 +1,12 @@
 package com.phm.ecommerce.infrastructure.batch.config;
 
+import com.phm.ecommerce.infrastructure.batch.consumer.CouponIssueConsumerProperties;
 import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableBatchProcessing
+@EnableConfigurationProperties(CouponIssueConsumerProperties.class)
 public class BatchConfig {
 }
@@ -2,7 +2,10 @@ package com.phm.ecommerce.infrastructure.batch.config;
 
 import com.phm.ecommerce.infrastructure.batch.quartz.CouponIssueQuartzJob;
 import com.phm.ecommerce.infrastructure.batch.quartz.DLQRetryQuartzJob;
+import com.phm.ecommerce.infrastructure.batch.quartz.OutboxRelayQuartzJob;
 import com.phm.ecommerce.infrastructure.batch.quartz.ProductRankingQuartzJob;
+import com.phm.ecommerce.infrastructure.batch.quartz.ProductStockReservationSyncQuartzJob;
+import com.phm.ecommerce.infrastructure.batch.quartz.ProductViewCountFlushQuartzJob;
 import org.quartz.CronScheduleBuilder;
 import org.quartz.JobBuilder;
 import org.quartz.JobDetail;
@@ -18,7 +21,7 @@ public class QuartzConfig {
   public JobDetail productRankingJobDetail() {
     return JobBuilder.newJob(ProductRankingQuartzJob.class)
         .withIdentity("productRankingJob")
-        .withDescription("상품 인기 순위 업데이트 Job")
+        .withDescription("상품 인기 순위 보정 Job")
         .storeDurably()
         .build();
   }
@@ -37,6 +40,75 @@ public class QuartzConfig {
         .build();
   }
 
+  @Bean
+  public JobDetail productViewCountFlushJobDetail() {
+    return JobBuilder.newJob(ProductViewCountFlushQuartzJob.class)
+        .withIdentity("productViewCountFlushJob")
+        .withDescription("상품 조회수 DB 반영 Job")
+        .storeDurably()
+        .build();
+  }
+
+  @Bean
+  public Trigger productViewCountFlushJobTrigger() {
+    // 1분마다 실행 (DLQ 재시도와 겹치지 않도록 30초에 실행)
+    return TriggerBuilder.newTrigger()
+        .forJob(productViewCountFlushJobDetail())
+        .withIdentity("productViewCountFlushJobTrigger")
+        .withDescription("1분마다 실행")
+        .withSchedule(
+            CronScheduleBuilder.cronSchedule("30 * * * * ?")
+                .withMisfireHandlingInstructionDoNothing()
+        )
+        .build();
+  }
+
+  @Bean
+  public JobDetail productStockReservationSyncJobDetail() {
+    return JobBuilder.newJob(ProductStockReservationSyncQuartzJob.class)
+        .withIdentity("productStockReservationSyncJob")
+        .withDescription("Redis 재고 예약 확정 및 보정 Job")
+        .storeDurably()
+        .build();
+  }
+
+  @Bean
+  public Trigger productStockReservationSyncJobTrigger() {
+    // 30초마다 실행 (다른 Job과 겹치지 않도록 15초, 45초에 실행)
+    return TriggerBuilder.newTrigger()
+        .forJob(productStockReservationSyncJobDetail())
+        .withIdentity("productStockReservationSyncJobTrigger")
+        .withDescription("30초마다 실행")
+        .withSchedule(
+            CronScheduleBuilder.cronSchedule("15/30 * * * * ?")
+                .withMisfireHandlingInstructionDoNothing()
+        )
+        .build();
+  }
+
+  @Bean
+  public JobDetail outboxRelayJobDetail() {
+    return JobBuilder.newJob(OutboxRelayQuartzJob.class)
+        .withIdentity("outboxRelayJob")
+        .withDescription("주문 이벤트 아웃박스 전달 Job")
+        .storeDurably()
+        .build();
+  }
+
+  @Bean
+  public Trigger outboxRelayJobTrigger() {
+    // 5초마다 실행 (API 서버 릴레이와 함께 아웃박스를 비운다)
+    return TriggerBuilder.newTrigger()
+        .forJob(outboxRelayJobDetail())
+        .withIdentity("outboxRelayJobTrigger")
+        .withDescription("5초마다 실행")
+        .withSchedule(
+            CronScheduleBuilder.cronSchedule("0/5 * * * * ?")
+                .withMisfireHandlingInstructionDoNothing()
+        )
+        .build();
+  }
+
   @Bean
   public JobDetail dlqRetryJobDetail() {
     return JobBuilder.newJob(DLQRetryQuartzJob.class)
@@ -71,13 +143,13 @@ public class QuartzConfig {
 
   @Bean
   public Trigger couponIssueJobTrigger() {
-    // 10초마다 실행 (Cron: 매 10초마다)
+    // 1분마다 실행 (새 요청은 CouponIssueConsumer가 바로 발급하고, 이 Job은 재시도 큐와 남은 요청을 정리한다)
     return TriggerBuilder.newTrigger()
         .forJob(couponIssueJobDetail())
         .withIdentity("couponIssueJobTrigger")
-        .withDescription("10초마다 실행")
+        .withDescription("1분마다 실행")
         .withSchedule(
-            CronScheduleBuilder.cronSchedule("0/10 * * * * ?")
+            CronScheduleBuilder.cronSchedule("20 * * * * ?")
                 .withMisfireHandlingInstructionFireAndProceed()
         )
         .build();
@@ -0,0 +1,144 @@
+package com.phm.ecommerce.infrastructure.batch.consumer;
+
+import com.phm.ecommerce.application.service.CouponIssueBatchService;
+import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 발급 요청이 들어오면 바로 발급하는 상시 소비자.
+ * 비어 있던 대기열에 첫 요청이 들어올 때 오는 신호를 BLPOP으로 기다렸다가, 그 쿠폰의 대기열이 빌 때까지 꺼내 발급한다.
+ * 배치 크기는 밀린 요청 수를 따라가므로 한산할 때는 한 건씩 바로, 몰릴 때는 크게 묶어 처리한다.
+ * 소비자가 처리하지 못한 재시도 큐와 남은 요청은 Quartz의 쿠폰 발급 Job이 주기적으로 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponIssueConsumer implements SmartLifecycle {
+
+  private static final long ERROR_BACKOFF_MILLIS = 1000L;
+
+  private final CouponQueueService couponQueueService;
+  private final CouponIssueBatchService couponIssueBatchService;
+  private final CouponIssueConsumerProperties properties;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  @Override
+  public synchronized void start() {
+    if (running) {
+      return;
+    }
+    running = true;
+    worker = Thread.ofVirtual().name("coupon-issue-consumer").start(this::consume);
+    log.info("쿠폰 발급 소비자 시작");
+  }
+
+  @Override
+  public void stop() {
+    Thread current;
+    synchronized (this) {
+      if (!running) {
+        return;
+      }
+      running = false;
+      current = worker;
+    }
+
+    // 진행 중인 배치는 끝까지 처리하고, 신호 대기는 blockTimeoutSeconds 안에 풀린다
+    try {
+      if (!current.join(Duration.ofSeconds(properties.getShutdownTimeoutSeconds()))) {
+        log.warn("쿠폰 발급 소비자 종료 대기 시간 초과 - 인터럽트");
+        current.interrupt();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    log.info("쿠폰 발급 소비자 종료");
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public boolean isAutoStartup() {
+    return properties.isAutoStartup();
+  }
+
+  private void consume() {
+    Duration blockTimeout = Duration.ofSeconds(properties.getBlockTimeoutSeconds());
+    try {
+      while (running) {
+        Long couponId = null;
+        try {
+          couponId = couponQueueService.awaitSignaledCoupon(blockTimeout);
+          if (couponId != null) {
+            drain(couponId);
+          }
+        } catch (Exception e) {
+          if (couponId != null) {
+            resignal(couponId);
+          }
+          if (!running) {
+            break;
+          }
+          log.error("쿠폰 발급 소비자 처리 중 오류 - couponId: {}", couponId, e);
+          backoff();
+        }
+      }
+    } finally {
+      // 예상하지 못한 오류로 스레드가 끝나더라도 실행 중으로 남지 않게 한다
+      if (running) {
+        log.error("쿠폰 발급 소비자 비정상 종료");
+        running = false;
+      }
+    }
+  }
+
+  /**
+   * Redis 장애로 신호를 다시 넣지 못해도 소비자 스레드는 유지한다. 남은 요청은 Quartz의 쿠폰 발급 Job이 처리한다.
+   */
+  private void resignal(Long couponId) {
+    try {
+      couponQueueService.signalCoupon(couponId);
+    } catch (Exception e) {
+      log.warn("쿠폰 발급 신호 재등록 실패 - couponId: {}, error: {}", couponId, e.getMessage());
+    }
+  }
+
+  private void drain(Long couponId) {
+    long backlog = couponQueueService.getQueueSize(couponId);
+    while (backlog > 0) {
+      if (!running) {
+        // 남은 요청은 다른 노드의 소비자나 다음 실행이 이어서 처리한다
+        resignal(couponId);
+        return;
+      }
+
+      long batchSize = Math.clamp(backlog, properties.getMinBatchSize(), properties.getMaxBatchSize());
+      CouponIssueBatchService.ProcessResult result =
+          couponIssueBatchService.processCouponQueue(couponId, batchSize);
+      log.debug("쿠폰 발급 소비 - couponId: {}, 대기: {}, 배치: {}, 성공: {}, 실패: {}",
+          couponId, backlog, batchSize, result.successCount(), result.failCount());
+
+      backlog = couponQueueService.getQueueSize(couponId);
+    }
+  }
+
+  private void backoff() {
+    try {
+      TimeUnit.MILLISECONDS.sleep(ERROR_BACKOFF_MILLIS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.phm.ecommerce.infrastructure.batch.consumer;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "coupon.consumer")
+public class CouponIssueConsumerProperties {
+
+  private final boolean autoStartup;
+  /**
+   * 신호를 기다리는 최대 시간. 종료 요청은 이 시간 안에 반영된다.
+   */
+  private final int blockTimeoutSeconds;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int shutdownTimeoutSeconds;
+
+  public CouponIssueConsumerProperties(
+      @DefaultValue("true") boolean autoStartup,
+      @DefaultValue("2") int blockTimeoutSeconds,
+      @DefaultValue("1") int minBatchSize,
+      @DefaultValue("500") int maxBatchSize,
+      @DefaultValue("30") int shutdownTimeoutSeconds) {
+    this.autoStartup = autoStartup;
+    this.blockTimeoutSeconds = blockTimeoutSeconds;
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.shutdownTimeoutSeconds = shutdownTimeoutSeconds;
+  }
+}
@@ -1,8 +1,9 @@
 package com.phm.ecommerce.infrastructure.batch.job;
 
+import com.phm.ecommerce.application.lock.LockAcquisitionException;
 import com.phm.ecommerce.application.service.CouponIssueBatchService;
-import com.phm.ecommerce.domain.coupon.Coupon;
-import com.phm.ecommerce.infrastructure.repository.CouponRepository;
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -12,21 +13,31 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.context.event.EventListener;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class CouponIssueBatchJob {
 
-  private final CouponRepository couponRepository;
+  private final CouponQueueService couponQueueService;
   private final CouponIssueBatchService couponIssueBatchService;
   private final JobRepository jobRepository;
-  private final PlatformTransactionManager transactionManager;
+
+  // 쿠폰마다 DB 커넥션을 하나씩 쓴다. 풀은 Quartz 워커 스레드, 클러스터 관리, 소비자 몫을 더한 뒤 이 값만큼 남도록 잡는다
+  @Value("${coupon.issue.partition-concurrency:4}")
+  private int partitionConcurrency;
 
   @Bean
   public Job couponIssueJob() {
@@ -38,7 +49,8 @@ public class CouponIssueBatchJob {
   @Bean
   public Step couponIssueStep() {
     return new StepBuilder("couponIssueStep", jobRepository)
-        .tasklet(couponIssueTasklet(), transactionManager)
+        // 쿠폰별 발급은 각자 트랜잭션을 쓰므로, 스텝 트랜잭션이 파티션을 처리하는 동안 커넥션을 따로 붙잡지 않게 한다
+        .tasklet(couponIssueTasklet(), new ResourcelessTransactionManager())
         .build();
   }
 
@@ -50,20 +62,65 @@ public class CouponIssueBatchJob {
     };
   }
 
+  /**
+   * 대기열이나 재시도 큐에 요청이 남아 있는 쿠폰만 처리한다. 비용은 쿠폰 수가 아니라 처리할 쿠폰 수에 비례한다.
+   * 쿠폰마다 가상 스레드에서 동시에 처리하고, 다른 노드가 락을 잡고 있는 쿠폰은 기다리지 않고 건너뛴다.
+   */
   public void processAllCouponQueues() {
-    log.debug("쿠폰 발급 배치 시작");
+    Set<Long> couponIds = couponQueueService.getActiveCouponIds();
+    if (couponIds.isEmpty()) {
+      log.debug("처리할 쿠폰 없음");
+      return;
+    }
+
+    log.debug("쿠폰 발급 배치 시작 - 활성 쿠폰: {}", couponIds.size());
+
+    BoundedVirtualThreadExecutor executor =
+        new BoundedVirtualThreadExecutor("coupon-issue", partitionConcurrency);
+    Map<PartitionResult, Integer> results = new EnumMap<>(PartitionResult.class);
+    long startedAt = System.currentTimeMillis();
+
+    List<CompletableFuture<PartitionResult>> futures = couponIds.stream()
+        .map(couponId -> CompletableFuture.supplyAsync(() -> processPartition(couponId), executor))
+        .toList();
+    futures.forEach(future -> results.merge(future.join(), 1, Integer::sum));
 
-    // TODO: 발급 가능 쿠폰만 조회 등으로 리팩토링
-    List<Coupon> coupons = couponRepository.findAll();
+    log.info("쿠폰 발급 배치 완료 - 처리: {}, 다른 노드 처리 중: {}, 실패: {}, 소요: {}ms",
+        results.getOrDefault(PartitionResult.PROCESSED, 0),
+        results.getOrDefault(PartitionResult.SKIPPED, 0),
+        results.getOrDefault(PartitionResult.FAILED, 0),
+        System.currentTimeMillis() - startedAt);
+  }
 
-    for (Coupon coupon : coupons) {
-      try {
-        couponIssueBatchService.processCouponIssueQueue(coupon.getId());
-      } catch (Exception e) {
-        log.error("쿠폰 발급 배치 처리 중 오류 - couponId: {}", coupon.getId(), e);
-      }
+  /**
+   * 활성 Set 도입 전에 쌓인 요청을 기동 시 한 번 활성 Set에 올린다. 이미 끝났으면 표시 키만 확인하고 돌아간다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillActiveCoupons() {
+    try {
+      couponQueueService.backfillActiveCoupons();
+    } catch (Exception e) {
+      // 표시 키가 남지 않았으므로 다음 기동 때 다시 시도하고, 이미 활성 Set에 있는 쿠폰 처리는 계속한다
+      log.error("쿠폰 활성 목록 백필 실패", e);
     }
+  }
+
+  private PartitionResult processPartition(Long couponId) {
+    try {
+      couponIssueBatchService.tryProcessCouponIssueQueue(couponId);
+      return PartitionResult.PROCESSED;
+    } catch (LockAcquisitionException e) {
+      log.debug("다른 노드가 처리 중인 쿠폰 - couponId: {}", couponId);
+      return PartitionResult.SKIPPED;
+    } catch (Exception e) {
+      log.error("쿠폰 발급 배치 처리 중 오류 - couponId: {}", couponId, e);
+      return PartitionResult.FAILED;
+    }
+  }
 
-    log.debug("쿠폰 발급 배치 완료");
+  private enum PartitionResult {
+    PROCESSED,
+    SKIPPED,
+    FAILED
   }
 }
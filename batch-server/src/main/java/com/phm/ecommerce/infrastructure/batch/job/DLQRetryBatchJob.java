@@ -2,10 +2,11 @@ package com.phm.ecommerce.infrastructure.batch.job;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.phm.ecommerce.application.lock.DistributedLock;
-import com.phm.ecommerce.application.lock.RedisLockKeys;
 import com.phm.ecommerce.application.service.ExternalOrderService;
 import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import com.phm.ecommerce.infrastructure.dlq.ClaimedMessage;
+import com.phm.ecommerce.infrastructure.dlq.DLQProperties;
 import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
 import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
 import lombok.RequiredArgsConstructor;
@@ -21,7 +22,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Configuration
@@ -29,6 +39,7 @@ import java.util.List;
 public class DLQRetryBatchJob {
 
   private final RedisDLQService dlqService;
+  private final DLQProperties dlqProperties;
   private final ExternalOrderService externalOrderService;
   private final ObjectMapper redisObjectMapper;
   private final JobRepository jobRepository;
@@ -56,72 +67,128 @@ public class DLQRetryBatchJob {
     };
   }
 
-  @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 10L, leaseTime = 60L)
+  /**
+   * 재시도 시각이 된 메시지를 페이지 단위로 가져가(claim) 가상 스레드에서 동시에 재전송한다.
+   * 메시지마다 임대를 걸어 가져가므로 여러 인스턴스가 동시에 실행해도 같은 메시지를 중복 처리하지 않으며,
+   * 처리 도중 인스턴스가 죽어 임대가 만료된 메시지는 다음 claim 때 다시 재시도 대상이 된다.
+   */
   public void retryFailedMessages() {
     try {
       log.debug("DLQ 재시도 배치 시작");
 
-      // 재시도 가능 메시지 목록 조회
-      List<DeadLetterMessage> retryableMessages = dlqService.getRetryableMessages();
+      // 실행 중에 다시 예약된 메시지는 이번 실행에서 가져가지 않는다
+      LocalDateTime cutoff = LocalDateTime.now();
+      // 임대가 만료된 메시지는 claim 때 재시도 대상으로 되돌아가므로 함께 센다
+      long backlog = dlqService.countRetryableMessages(cutoff) + dlqService.countExpiredClaims(cutoff);
 
-      if (retryableMessages.isEmpty()) {
+      if (backlog == 0) {
         log.debug("재시도할 메시지 없음");
         return;
       }
 
-      log.info("DLQ 재시도 시작 - 메시지 개수: {}", retryableMessages.size());
-
-      int successCount = 0;
-      int failureCount = 0;
-      int exceededCount = 0;
+      long lagMillis = dlqService.getOldestRetryAt()
+          .map(oldest -> Math.max(Duration.between(oldest, cutoff).toMillis(), 0L))
+          .orElse(0L);
+      log.info("DLQ 재시도 시작 - 대기 메시지: {}, 처리 중: {}, 지연: {}ms",
+          backlog, dlqService.countInFlightMessages(), lagMillis);
+
+      BoundedVirtualThreadExecutor executor =
+          new BoundedVirtualThreadExecutor("dlq-replay", dlqProperties.getReplayConcurrency());
+      Map<ReplayResult, Integer> results = new EnumMap<>(ReplayResult.class);
+      Set<String> attemptedIds = new HashSet<>();
+      long startedAt = System.nanoTime();
+      long deadline = startedAt + TimeUnit.SECONDS.toNanos(dlqProperties.getReplayTimeBudgetSeconds());
+
+      while (System.nanoTime() < deadline) {
+        List<ClaimedMessage> claimed = dlqService.claimRetryableMessages(
+            cutoff, dlqProperties.getReplayPageSize(), dlqProperties.getClaimLeaseSeconds());
+        if (claimed.isEmpty()) {
+          break;
+        }
 
-      for (DeadLetterMessage message : retryableMessages) {
-        try {
-          if (!dlqService.canRetry(message)) {
-            log.warn("DLQ 재시도 횟수 초과 - messageId: {}, retryCount: {}",
-                message.id(), message.retryCount());
-            dlqService.removeMessage(message.id());
-            exceededCount++;
-            continue;
+        // 이번 실행에서 이미 시도한 메시지(임대 만료로 되돌아온 경우)는 다음 실행으로 넘긴다
+        List<ClaimedMessage> page = new ArrayList<>();
+        for (ClaimedMessage message : claimed) {
+          if (attemptedIds.add(message.id())) {
+            page.add(message);
+          } else {
+            dlqService.releaseMessage(message);
           }
+        }
+        if (page.isEmpty()) {
+          break;
+        }
 
-          OrderCreatedEvent event = redisObjectMapper.readValue(
-              message.originalMessage(), OrderCreatedEvent.class);
+        List<CompletableFuture<ReplayResult>> futures = page.stream()
+            .map(message -> CompletableFuture.supplyAsync(() -> replay(message), executor))
+            .toList();
+        futures.forEach(future -> results.merge(future.join(), 1, Integer::sum));
+      }
 
-          externalOrderService.sendOrderToExternalSystem(
-              event.orderId(), event.userId(), event.finalAmount(), event.createdAt());
+      long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), 1L);
+      long remaining = dlqService.countRetryableMessages(cutoff);
+      log.info("DLQ 재시도 완료 - 성공: {}, 실패: {}, 초과: {}, 총: {}, 소요: {}ms, 처리량: {}건/s, 남은 메시지: {}",
+          results.getOrDefault(ReplayResult.SUCCESS, 0),
+          results.getOrDefault(ReplayResult.FAILURE, 0),
+          results.getOrDefault(ReplayResult.EXCEEDED, 0),
+          attemptedIds.size(),
+          elapsedMillis,
+          attemptedIds.size() * 1000L / elapsedMillis,
+          remaining);
+
+      if (remaining > 0) {
+        log.warn("DLQ 재시도 실행 시간 예산 초과 - 남은 메시지 {} 건은 다음 실행에서 처리", remaining);
+      }
 
-          dlqService.removeMessage(message.id());
-          successCount++;
+    } catch (Exception e) {
+      log.error("DLQ 재시도 배치 실행 실패", e);
+      throw e;
+    }
+  }
 
-          log.info("DLQ 재시도 성공 - messageId: {}, orderId: {}, retryCount: {}",
-              message.id(), event.orderId(), message.retryCount());
+  /**
+   * 결과 반영은 임대 토큰이 일치할 때만 적용되므로, 임대가 만료된 뒤 늦게 끝난 재전송은 다른 워커의 처리를 덮어쓰지 않는다.
+   */
+  private ReplayResult replay(ClaimedMessage claimed) {
+    DeadLetterMessage message = claimed.message();
+    if (!dlqService.canRetry(message)) {
+      log.warn("DLQ 재시도 횟수 초과 - messageId: {}, retryCount: {}",
+          message.id(), message.retryCount());
+      dlqService.removeClaimedMessage(claimed);
+      return ReplayResult.EXCEEDED;
+    }
 
-        } catch (JsonProcessingException e) {
-          log.error("DLQ 메시지 파싱 실패 (제거) - messageId: {}", message.id(), e);
-          dlqService.removeMessage(message.id());
-          failureCount++;
+    try {
+      OrderCreatedEvent event = redisObjectMapper.readValue(
+          message.originalMessage(), OrderCreatedEvent.class);
 
-        } catch (Exception e) {
-          DeadLetterMessage updatedMessage = message.incrementRetryCount();
-          dlqService.updateMessage(updatedMessage);
-          failureCount++;
+      externalOrderService.sendOrderToExternalSystem(
+          event.orderId(), event.userId(), event.finalAmount(), event.createdAt());
 
-          log.warn("DLQ 재시도 실패 - messageId: {}, retryCount: {}, error: {}",
-              updatedMessage.id(), updatedMessage.retryCount(), e.getMessage());
-        }
-      }
+      dlqService.removeClaimedMessage(claimed);
 
-      log.info("DLQ 재시도 완료 - 성공: {}, 실패: {}, 초과: {}, 총: {}",
-          successCount, failureCount, exceededCount, retryableMessages.size());
+      log.info("DLQ 재시도 성공 - messageId: {}, orderId: {}, retryCount: {}",
+          message.id(), event.orderId(), message.retryCount());
+      return ReplayResult.SUCCESS;
+
+    } catch (JsonProcessingException e) {
+      log.error("DLQ 메시지 파싱 실패 (제거) - messageId: {}", message.id(), e);
+      dlqService.removeClaimedMessage(claimed);
+      return ReplayResult.FAILURE;
 
     } catch (Exception e) {
-      log.error("DLQ 재시도 배치 실행 실패", e);
-      throw e;
+      DeadLetterMessage updatedMessage = message.incrementRetryCount();
+      dlqService.rescheduleClaimedMessage(claimed, updatedMessage);
+
+      log.warn("DLQ 재시도 실패 - messageId: {}, retryCount: {}, error: {}",
+          updatedMessage.id(), updatedMessage.retryCount(), e.getMessage());
+      return ReplayResult.FAILURE;
     }
   }
 
-  private String prepareLockKey() {
-    return RedisLockKeys.dlqRetry();
+  private enum ReplayResult {
+    SUCCESS,
+    FAILURE,
+    EXCEEDED
   }
 }
@@ -0,0 +1,56 @@
+package com.phm.ecommerce.infrastructure.batch.job;
+
+import com.phm.ecommerce.infrastructure.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class OutboxRelayBatchJob {
+
+  private final OutboxRelay outboxRelay;
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  @Bean
+  public Job outboxRelayJob() {
+    return new JobBuilder("outboxRelayJob", jobRepository)
+        .start(outboxRelayStep())
+        .build();
+  }
+
+  @Bean
+  public Step outboxRelayStep() {
+    return new StepBuilder("outboxRelayStep", jobRepository)
+        .tasklet(outboxRelayTasklet(), transactionManager)
+        .build();
+  }
+
+  /**
+   * 행 단위 SKIP LOCKED로 이벤트를 나눠 가지므로 분산 락 없이 여러 인스턴스에서 동시에 실행한다.
+   */
+  @Bean
+  public Tasklet outboxRelayTasklet() {
+    return (contribution, chunkContext) -> {
+      try {
+        int relayed = outboxRelay.relay();
+        contribution.incrementWriteCount(relayed);
+      } catch (Exception e) {
+        log.error("아웃박스 릴레이 배치 실행 실패", e);
+        throw e;
+      }
+      return RepeatStatus.FINISHED;
+    };
+  }
+}
@@ -4,6 +4,8 @@ import com.phm.ecommerce.application.lock.DistributedLock;
 import com.phm.ecommerce.application.lock.RedisLockKeys;
 import com.phm.ecommerce.domain.product.Product;
 import com.phm.ecommerce.infrastructure.cache.ProductRankingService;
+import com.phm.ecommerce.infrastructure.cache.ProductViewCountService;
+import com.phm.ecommerce.infrastructure.repository.ProductPopularityView;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +18,12 @@ import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-  import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Configuration
@@ -27,10 +32,11 @@ public class ProductRankingBatchJob {
 
   private final ProductRepository productRepository;
   private final ProductRankingService productRankingService;
+  private final ProductViewCountService productViewCountService;
   private final JobRepository jobRepository;
   private final PlatformTransactionManager transactionManager;
 
-  private static final int TOP_PRODUCTS_LIMIT = 100;
+  private static final int SCAN_PAGE_SIZE = 1000;
 
   @Bean
   public Job productRankingJob() {
@@ -54,19 +60,48 @@ public class ProductRankingBatchJob {
     };
   }
 
+  /**
+   * 랭킹은 주문/조회 시점에 실시간으로 증분 반영되고, 이 배치는 DB 기준으로 전체 점수를 다시 맞추는 보정 작업이다.
+   * DB를 읽은 뒤 랭킹을 교체하기 전까지 들어온 실시간 증분은 교체로 덮어써지지만,
+   * 해당 판매/조회는 이미 DB(또는 미반영 조회수)에 남아 있으므로 다음 보정에서 다시 반영된다.
+   */
   @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 10L, leaseTime = 30L)
   public void syncProductRankingToRedis() {
     try {
-      log.info("총 인기 상품 랭킹 동기화 시작");
+      log.info("인기 상품 랭킹 보정 시작");
 
-      List<Product> topProducts = productRepository.findPopularProducts(TOP_PRODUCTS_LIMIT);
+      Map<Long, Double> scores = new HashMap<>();
+      long lastId = 0L;
+      List<ProductPopularityView> products;
+      do {
+        // 엔티티 대신 프로젝션으로 읽어 스텝 트랜잭션 동안 영속성 컨텍스트에 상품이 쌓이지 않게 한다
+        products = productRepository.findPopularityViewsByIdGreaterThanOrderByIdAsc(lastId, Limit.of(SCAN_PAGE_SIZE));
+        if (products.isEmpty()) {
+          break;
+        }
 
-      productRankingService.updateRanking(topProducts);
+        // 아직 DB에 반영되지 않은 조회수까지 포함해야 실시간 증분값과 어긋나지 않는다
+        Map<Long, Long> unflushedViews = productViewCountService.getUnflushedCounts(
+            products.stream().map(ProductPopularityView::getId).toList());
 
-      log.info("총 인기 상품 랭킹 동기화 완료: {} 개 상품 동기화", topProducts.size());
+        for (ProductPopularityView product : products) {
+          double score = Product.calculatePopularityScore(
+              product.getViewCount() + unflushedViews.getOrDefault(product.getId(), 0L),
+              product.getSalesCount());
+          if (score > 0) {
+            scores.put(product.getId(), score);
+          }
+        }
+
+        lastId = products.get(products.size() - 1).getId();
+      } while (products.size() == SCAN_PAGE_SIZE);
+
+      productRankingService.updateRanking(scores);
+
+      log.info("인기 상품 랭킹 보정 완료: {} 개 상품 동기화", scores.size());
 
     } catch (Exception e) {
-      log.error("총 인기 상품 랭킹 동기화 실패", e);
+      log.error("인기 상품 랭킹 보정 실패", e);
       throw e;  // Spring Batch가 실패를 인지하도록 예외 재발생
     }
   }
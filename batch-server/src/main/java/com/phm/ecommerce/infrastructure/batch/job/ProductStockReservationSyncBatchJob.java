@@ -0,0 +1,159 @@
+package com.phm.ecommerce.infrastructure.batch.job;
+
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.DrainedReservations;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.ExpiredHold;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.StockHold;
+import com.phm.ecommerce.infrastructure.repository.OrderRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductStockProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ProductStockReservationSyncBatchJob {
+
+  private static final int EXPIRED_HOLD_BATCH_SIZE = 500;
+
+  private final ProductStockReservationService productStockReservationService;
+  private final ProductStockProperties productStockProperties;
+  private final ProductCacheService productCacheService;
+  private final ProductRepository productRepository;
+  private final OrderRepository orderRepository;
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  @Bean
+  public Job productStockReservationSyncJob() {
+    return new JobBuilder("productStockReservationSyncJob", jobRepository)
+        .start(productStockReservationSyncStep())
+        .build();
+  }
+
+  @Bean
+  public Step productStockReservationSyncStep() {
+    return new StepBuilder("productStockReservationSyncStep", jobRepository)
+        // 스텝 트랜잭션으로 DB 스냅샷을 잡아 두면 확정 후 보정이 확정 전 재고를 읽으므로, 각 단계가 자기 트랜잭션으로 읽고 쓴다
+        .tasklet(productStockReservationSyncTasklet(), new ResourcelessTransactionManager())
+        .build();
+  }
+
+  @Bean
+  public Tasklet productStockReservationSyncTasklet() {
+    return (contribution, chunkContext) -> {
+      syncReservations();
+      return RepeatStatus.FINISHED;
+    };
+  }
+
+  /**
+   * 만료된 hold를 주문 커밋 여부에 따라 정리하고, Redis에 예약된 재고를 DB에 확정한 뒤 Redis 카운터와 DB 재고의 차이를 보정한다.
+   * 실행끼리 겹치지 않는 것은 Quartz 잡의 {@code @DisallowConcurrentExecution}이 보장하고,
+   * 정리 전에 중단된 묶음이 다시 반영되는 것은 묶음 토큰으로 막는다.
+   */
+  public void syncReservations() {
+    try {
+      resolveExpiredHolds();
+      confirmReservations();
+      reconcileCounters();
+    } catch (Exception e) {
+      log.error("재고 예약 동기화 실패", e);
+      throw e;  // Spring Batch가 실패를 인지하도록 예외 재발생
+    }
+  }
+
+  /**
+   * 커밋 후 확정이나 롤백 후 해제가 유실된 hold를 정리한다.
+   * 연결된 주문이 DB에 있으면 커밋된 것이므로 확정하고, 없으면 주문이 커밋되지 않은 것이므로 카운터에 되돌린다.
+   */
+  private void resolveExpiredHolds() {
+    long now = System.currentTimeMillis();
+    long confirmed = 0;
+    long released = 0;
+
+    List<ExpiredHold> expiredHolds;
+    do {
+      expiredHolds = productStockReservationService.findExpiredHolds(now, EXPIRED_HOLD_BATCH_SIZE);
+
+      List<StockHold> toConfirm = new ArrayList<>();
+      List<StockHold> toRelease = new ArrayList<>();
+      for (ExpiredHold expired : expiredHolds) {
+        if (expired.orderId() != null && orderRepository.existsById(expired.orderId())) {
+          toConfirm.add(expired.hold());
+        } else {
+          toRelease.add(expired.hold());
+        }
+      }
+
+      confirmed += productStockReservationService.confirm(toConfirm);
+      released += productStockReservationService.release(toRelease);
+    } while (expiredHolds.size() == EXPIRED_HOLD_BATCH_SIZE);
+
+    if (confirmed > 0 || released > 0) {
+      log.warn("만료된 재고 hold 정리 - 확정: {} 개, 해제: {} 개", confirmed, released);
+    }
+  }
+
+  private void confirmReservations() {
+    DrainedReservations drained = productStockReservationService.drainPendingReservations();
+
+    if (drained.isEmpty()) {
+      log.debug("확정할 재고 예약 없음");
+      return;
+    }
+
+    // 커밋을 확정한 뒤에 Redis의 반영 대상을 정리한다. 토큰 기록이 재고 UPDATE와 같은 트랜잭션이어야 중복 반영을 막는다
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    Integer updated = transactionTemplate.execute(
+        status -> productRepository.confirmReservedStocks(drained.token(), drained.quantities()));
+
+    // 커밋 전에 실패하면 processing 해시가 남아 다음 실행에서 같은 토큰으로 다시 반영되고,
+    // 커밋 후 정리에 실패했다면 다음 실행은 토큰 중복으로 반영 없이 정리만 한다
+    productStockReservationService.completeDrain(drained.token());
+    drained.quantities().keySet().forEach(productCacheService::evictProductCache);
+
+    if (updated != null && updated < 0) {
+      log.warn("이미 확정된 재고 예약 묶음 정리 - token: {}, 상품: {} 개", drained.token(), drained.quantities().size());
+      return;
+    }
+    log.info("재고 예약 확정 완료 - 상품: {} 개, 반영 행: {}", drained.quantities().size(), updated);
+  }
+
+  private void reconcileCounters() {
+    if (productStockProperties.getReservedProductIds().isEmpty()) {
+      return;
+    }
+
+    List<Product> products = productRepository.findAllByIds(
+        new ArrayList<>(productStockProperties.getReservedProductIds()));
+
+    for (Product product : products) {
+      long drift = productStockReservationService.reconcile(product.getId(), product.getQuantity());
+      if (drift != 0) {
+        log.warn("Redis 재고 카운터 보정 - productId: {}, dbStock: {}, drift: {}",
+            product.getId(), product.getQuantity(), drift);
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.phm.ecommerce.infrastructure.batch.job;
+
+import com.phm.ecommerce.application.lock.DistributedLock;
+import com.phm.ecommerce.application.lock.RedisLockKeys;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService;
+import com.phm.ecommerce.infrastructure.cache.ProductViewCountService;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ProductViewCountFlushBatchJob {
+
+  private final ProductViewCountService productViewCountService;
+  private final ProductCacheService productCacheService;
+  private final ProductRepository productRepository;
+  private final JobRepository jobRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  @Bean
+  public Job productViewCountFlushJob() {
+    return new JobBuilder("productViewCountFlushJob", jobRepository)
+        .start(productViewCountFlushStep())
+        .build();
+  }
+
+  @Bean
+  public Step productViewCountFlushStep() {
+    return new StepBuilder("productViewCountFlushStep", jobRepository)
+        .tasklet(productViewCountFlushTasklet(), transactionManager)
+        .build();
+  }
+
+  @Bean
+  public Tasklet productViewCountFlushTasklet() {
+    return (contribution, chunkContext) -> {
+      flushViewCounts();
+      return RepeatStatus.FINISHED;
+    };
+  }
+
+  @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 10L, leaseTime = 60L)
+  public void flushViewCounts() {
+    try {
+      Map<Long, Long> viewCounts = productViewCountService.drainPendingCounts();
+
+      if (viewCounts.isEmpty()) {
+        log.debug("반영할 조회수 없음");
+        return;
+      }
+
+      // 스텝 트랜잭션과 분리해 커밋을 확정한 뒤에 Redis의 반영 대상을 정리한다
+      TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+      transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+      Integer updated = transactionTemplate.execute(
+          status -> productRepository.increaseViewCounts(viewCounts));
+      long totalViews = viewCounts.values().stream().mapToLong(Long::longValue).sum();
+
+      // 커밋 전에 실패하면 processing 해시가 남아 다음 실행에서 다시 반영된다
+      productViewCountService.completeDrain();
+      viewCounts.keySet().forEach(productCacheService::evictProductCache);
+
+      log.info("조회수 일괄 반영 완료 - 상품: {} 개, 반영 행: {}, 조회수 합계: {}",
+          viewCounts.size(), updated, totalViews);
+
+    } catch (Exception e) {
+      log.error("조회수 일괄 반영 실패", e);
+      throw e;  // Spring Batch가 실패를 인지하도록 예외 재발생
+    }
+  }
+
+  private String prepareLockKey() {
+    return RedisLockKeys.viewCountFlush();
+  }
+}
@@ -0,0 +1,43 @@
+package com.phm.ecommerce.infrastructure.batch.quartz;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.stereotype.Component;
+
+// 클러스터 JobStore에서는 노드 전체에서 한 번에 하나만 실행된다. 확정과 보정이 서로 다른 실행의 중간 상태를 보지 않게 한다
+@Slf4j
+@Component
+@DisallowConcurrentExecution
+@RequiredArgsConstructor
+public class ProductStockReservationSyncQuartzJob extends QuartzJobBean {
+
+  private final JobLauncher jobLauncher;
+  private final Job productStockReservationSyncJob;
+
+  @Override
+  protected void executeInternal(JobExecutionContext context) throws JobExecutionException {
+    try {
+      log.info("Product Stock Reservation Sync Quartz Job 시작");
+
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addLong("timestamp", System.currentTimeMillis())
+          .toJobParameters();
+
+      jobLauncher.run(productStockReservationSyncJob, jobParameters);
+
+      log.info("Product Stock Reservation Sync Quartz Job 완료");
+
+    } catch (Exception e) {
+      log.error("Product Stock Reservation Sync Quartz Job 실행 실패", e);
+      throw new JobExecutionException("Product Stock Reservation Sync Job 실행 중 오류 발생", e);
+    }
+  }
+}
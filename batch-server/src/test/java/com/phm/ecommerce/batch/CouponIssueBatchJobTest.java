@@ -1,7 +1,10 @@
 package com.phm.ecommerce.batch;
 
+import com.phm.ecommerce.application.lock.RedisLockKeys;
 import com.phm.ecommerce.application.service.CouponIssueBatchService;
 import com.phm.ecommerce.domain.coupon.Coupon;
+import com.phm.ecommerce.domain.coupon.UserCoupon;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
 import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
 import com.phm.ecommerce.infrastructure.repository.CouponRepository;
 import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
@@ -9,6 +12,8 @@ import com.phm.ecommerce.support.TestContainerSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecution;
@@ -17,6 +22,10 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -38,9 +47,15 @@ class CouponIssueBatchJobTest extends TestContainerSupport {
   @Autowired
   private CouponQueueService couponQueueService;
 
+  @Autowired
+  private RedissonClient redissonClient;
+
   @Autowired
   private CouponIssueBatchService couponIssueBatchService;
 
+  @Autowired
+  private RedisTemplate<String, Object> redisTemplate;
+
   @BeforeEach
   void setUp() {
     userCouponRepository.deleteAll();
@@ -196,6 +211,232 @@ class CouponIssueBatchJobTest extends TestContainerSupport {
     assertThat(issuedCount).isLessThanOrEqualTo(1);
   }
 
+  @Test
+  @DisplayName("이미 발급받은 사용자가 섞여 있으면 나머지만 발급하고 발급 수량에 포함하지 않아야 한다")
+  void couponIssueBatchJobShouldSkipAlreadyIssuedUsers() throws Exception {
+    // Given: 사용자 1은 이미 쿠폰을 가지고 있음
+    Coupon coupon = createCoupon("일괄 발급 쿠폰", 100L);
+    userCouponRepository.save(UserCoupon.issue(1L, coupon.getId(), 30));
+
+    // And: 사용자 1, 2, 3의 발급 요청
+    for (long userId = 1; userId <= 3; userId++) {
+      couponQueueService.addCouponRequest(coupon.getId(), userId);
+    }
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    JobExecution jobExecution = jobLauncher.run(couponIssueJob, jobParameters);
+
+    // Then: 새로 발급된 2건만 발급 수량에 반영되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(3);
+
+    Coupon updatedCoupon = couponRepository.findById(coupon.getId()).orElseThrow();
+    assertThat(updatedCoupon.getIssuedQuantity()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("요청이 들어온 쿠폰만 활성 목록에 올라가고, 처리가 끝나면 빠져야 한다")
+  void couponIssueBatchJobShouldProcessOnlyActiveCoupons() throws Exception {
+    // Given: 요청이 있는 쿠폰과 없는 쿠폰
+    Coupon requested = createCoupon("요청 있는 쿠폰", 100L);
+    Coupon idle = createCoupon("요청 없는 쿠폰", 100L);
+    couponQueueService.addCouponRequest(requested.getId(), 1L);
+
+    assertThat(couponQueueService.getActiveCouponIds())
+        .contains(requested.getId())
+        .doesNotContain(idle.getId());
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    JobExecution jobExecution = jobLauncher.run(couponIssueJob, jobParameters);
+
+    // Then: 발급 후 활성 목록에서 빠져야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(userCouponRepository.countByCouponId(requested.getId())).isEqualTo(1);
+    assertThat(couponQueueService.getActiveCouponIds()).doesNotContain(requested.getId());
+  }
+
+  @Test
+  @DisplayName("다른 노드가 락을 잡고 있는 쿠폰은 건너뛰고 나머지 쿠폰은 처리해야 한다")
+  void couponIssueBatchJobShouldSkipCouponsOwnedByAnotherNode() throws Exception {
+    // Given: 두 쿠폰에 발급 요청
+    Coupon owned = createCoupon("다른 노드 쿠폰", 100L);
+    Coupon free = createCoupon("처리 가능 쿠폰", 100L);
+    couponQueueService.addCouponRequest(owned.getId(), 1L);
+    couponQueueService.addCouponRequest(free.getId(), 1L);
+
+    // And: 다른 노드가 owned 쿠폰의 락을 잡고 있음
+    RLock lock = redissonClient.getLock("lock:" + RedisLockKeys.coupon(owned.getId()));
+    lock.lock();
+
+    try {
+      // When: 배치 Job 실행
+      JobParameters jobParameters = new JobParametersBuilder()
+          .addLong("timestamp", System.currentTimeMillis())
+          .toJobParameters();
+
+      JobExecution jobExecution = jobLauncher.run(couponIssueJob, jobParameters);
+
+      // Then: 락이 없는 쿠폰만 발급되어야 함
+      assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+      assertThat(userCouponRepository.countByCouponId(free.getId())).isEqualTo(1);
+      assertThat(userCouponRepository.countByCouponId(owned.getId())).isZero();
+      assertThat(couponQueueService.getQueueSize(owned.getId())).isEqualTo(1);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Test
+  @DisplayName("최대 재시도 횟수에 도달한 요청은 한 번에 DLQ로 옮겨지고 예약이 해제되어야 한다")
+  void exhaustedRetriesShouldMoveToDeadLetterQueueInBulk() {
+    // Given: 세 사용자가 재고를 예약한 뒤 두 사용자가 최대 재시도 횟수에 도달
+    Coupon coupon = createCoupon("재시도 소진 쿠폰", 100L);
+    couponQueueService.initializeCouponStock(coupon.getId(), 100L, List.of());
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 1L);
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 2L);
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 3L);
+    couponQueueService.acknowledgeRequests(coupon.getId(),
+        couponQueueService.claimOldestRequests(coupon.getId(), 3L, Duration.ofMinutes(1)));
+
+    couponQueueService.addToRetryQueue(coupon.getId(), List.of(1L, 2L), 3);
+    couponQueueService.addToRetryQueue(coupon.getId(), List.of(3L), 1);
+
+    // When: DLQ 이동
+    long moved = couponQueueService.moveToDeadLetterQueue(coupon.getId(), 3);
+
+    // Then: 최대 재시도 요청만 옮겨지고 나머지는 재시도 큐에 남아야 함
+    assertThat(moved).isEqualTo(2);
+    assertThat(couponQueueService.getRetryQueueSize(coupon.getId())).isEqualTo(1);
+
+    // And: 옮겨진 사용자는 예약이 해제되어 다시 요청할 수 있어야 함
+    assertThat(couponQueueService.enqueueCouponRequest(coupon.getId(), 1L)).isPositive();
+    assertThat(couponQueueService.enqueueCouponRequest(coupon.getId(), 3L))
+        .isEqualTo(CouponQueueService.DUPLICATED);
+  }
+
+  @Test
+  @DisplayName("재고 소진으로 표시된 쿠폰은 DLQ로 옮긴 요청의 예약을 카운터에 되돌리지 않아야 한다")
+  void deadLetterMoveShouldNotReturnStockAfterSoldOut() {
+    // Given: 두 사용자가 예약한 뒤 DB 재고가 소진되어 소진 표시됨
+    Coupon coupon = createCoupon("소진 후 DLQ 쿠폰", 100L);
+    couponQueueService.initializeCouponStock(coupon.getId(), 100L, List.of());
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 1L);
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 2L);
+    couponQueueService.acknowledgeRequests(coupon.getId(),
+        couponQueueService.claimOldestRequests(coupon.getId(), 2L, Duration.ofMinutes(1)));
+    couponQueueService.addToRetryQueue(coupon.getId(), List.of(1L, 2L), 3);
+    couponQueueService.markSoldOut(coupon.getId());
+
+    // When
+    long moved = couponQueueService.moveToDeadLetterQueue(coupon.getId(), 3);
+    couponQueueService.returnStock(coupon.getId(), 1L);
+
+    // Then: 카운터는 0으로 남아 새 사용자를 받지 않아야 함
+    assertThat(moved).isEqualTo(2);
+    Object stock = redisTemplate.opsForValue().get(RedisCacheKeys.couponStock(coupon.getId()));
+    assertThat(((Number) stock).longValue()).isZero();
+    assertThat(couponQueueService.enqueueCouponRequest(coupon.getId(), 3L))
+        .isEqualTo(CouponQueueService.SOLD_OUT);
+  }
+
+  @Test
+  @DisplayName("재시도 큐에서 이미 발급받은 사용자는 발급 사용자로 남기고 예약한 수량만 되돌려야 한다")
+  void retryOfAlreadyIssuedUserShouldReturnStockWithoutReleasingUser() {
+    // Given: 마지막 한 장을 예약한 사용자에게 이미 DB 발급이 끝났지만 재시도 큐에 요청이 남아 있음
+    Coupon coupon = createCoupon("재시도 중복 쿠폰", 100L);
+    couponQueueService.initializeCouponStock(coupon.getId(), 1L, List.of());
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 1L);
+    couponQueueService.acknowledgeRequests(coupon.getId(),
+        couponQueueService.claimOldestRequests(coupon.getId(), 1L, Duration.ofMinutes(1)));
+    userCouponRepository.save(UserCoupon.issue(1L, coupon.getId(), 30));
+    couponQueueService.addToRetryQueue(coupon.getId(), List.of(1L), 0);
+
+    // When
+    CouponIssueBatchService.ProcessResult result = couponIssueBatchService.processRetryQueue(coupon.getId());
+
+    // Then: 중복으로 처리되고 재시도 큐에서 빠져야 함
+    assertThat(result.successCount()).isZero();
+    assertThat(couponQueueService.getRetryQueueSize(coupon.getId())).isZero();
+
+    // And: 사용자는 여전히 발급 사용자이고, 예약 수량은 다른 사용자가 받을 수 있어야 함
+    assertThat(couponQueueService.enqueueCouponRequest(coupon.getId(), 1L))
+        .isEqualTo(CouponQueueService.DUPLICATED);
+    assertThat(couponQueueService.enqueueCouponRequest(coupon.getId(), 2L)).isPositive();
+    assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("꺼낸 뒤 확인 처리되지 못한 요청은 임대가 끝나면 DB에 없는 사용자만 다시 발급하고 예약 수량은 그대로 둬야 한다")
+  void expiredInFlightRequestsShouldBeRecovered() throws Exception {
+    // Given: 두 사용자의 요청을 꺼낸 노드가 죽었고, 그중 사용자 1은 죽기 전에 DB 발급이 커밋됨
+    Coupon coupon = createCoupon("처리 중 회수 쿠폰", 100L);
+    couponQueueService.initializeCouponStock(coupon.getId(), 100L, List.of());
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 1L);
+    couponQueueService.enqueueCouponRequest(coupon.getId(), 2L);
+    couponQueueService.claimOldestRequests(coupon.getId(), 2L, Duration.ZERO);
+    userCouponRepository.save(UserCoupon.issue(1L, coupon.getId(), 30));
+
+    // When
+    JobExecution jobExecution = jobLauncher.run(couponIssueJob, new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters());
+
+    // Then: 사용자 2만 새로 발급되고, 처리 중 표시가 지워져 활성 목록에서 빠져야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(userCouponRepository.existsByUserIdAndCouponId(2L, coupon.getId())).isTrue();
+    assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(2);
+    assertThat(redisTemplate.opsForZSet().zCard(RedisCacheKeys.couponInFlight(coupon.getId()))).isZero();
+    assertThat(couponQueueService.getActiveCouponIds()).doesNotContain(coupon.getId());
+
+    // And: 두 요청 모두 정상 소진이므로 예약 수량을 되돌리지 않아야 함
+    Object stock = redisTemplate.opsForValue().get(RedisCacheKeys.couponStock(coupon.getId()));
+    assertThat(((Number) stock).longValue()).isEqualTo(98L);
+  }
+
+  @Test
+  @DisplayName("활성 목록 도입 전에 쌓인 대기열과 재시도 큐는 한 번의 백필로 활성 목록에 올라가 처리되어야 한다")
+  void backfillShouldRecoverCouponsMissingFromActiveSetOnce() throws Exception {
+    // Given: 활성 목록이 생기기 전에 쌓인 대기 요청과, 재고 소진 표시된 쿠폰의 재시도 요청
+    Coupon queued = createCoupon("복구 대기열 쿠폰", 100L);
+    couponQueueService.addCouponRequest(queued.getId(), 1L);
+    Coupon soldOut = createCoupon("복구 재시도 쿠폰", 100L);
+    couponQueueService.markSoldOut(soldOut.getId());
+    couponQueueService.addToRetryQueue(soldOut.getId(), List.of(2L), 0);
+    redisTemplate.opsForSet().remove(RedisCacheKeys.COUPON_ACTIVE, queued.getId(), soldOut.getId());
+    redisTemplate.delete(RedisCacheKeys.COUPON_ACTIVE_BACKFILLED);
+
+    // When: 백필 후 배치 Job 실행
+    couponQueueService.backfillActiveCoupons();
+    assertThat(couponQueueService.getActiveCouponIds()).contains(queued.getId(), soldOut.getId());
+
+    JobExecution jobExecution = jobLauncher.run(couponIssueJob, new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters());
+
+    // Then: 두 쿠폰의 요청이 모두 처리되고 활성 목록에서 빠져야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(userCouponRepository.countByCouponId(queued.getId())).isEqualTo(1);
+    assertThat(userCouponRepository.countByCouponId(soldOut.getId())).isEqualTo(1);
+    assertThat(couponQueueService.getRetryQueueSize(soldOut.getId())).isZero();
+    assertThat(couponQueueService.getActiveCouponIds()).doesNotContain(queued.getId(), soldOut.getId());
+
+    // And: 표시 키가 남아 있으면 다시 SCAN하지 않아야 함
+    Coupon later = createCoupon("백필 이후 쿠폰", 100L);
+    couponQueueService.addCouponRequest(later.getId(), 3L);
+    redisTemplate.opsForSet().remove(RedisCacheKeys.COUPON_ACTIVE, later.getId());
+    assertThat(couponQueueService.backfillActiveCoupons()).isZero();
+    assertThat(couponQueueService.getActiveCouponIds()).doesNotContain(later.getId());
+    couponQueueService.clearQueue(later.getId());
+  }
+
   private Coupon createCoupon(String name, Long totalQuantity) {
     Coupon coupon = Coupon.create(
         name,
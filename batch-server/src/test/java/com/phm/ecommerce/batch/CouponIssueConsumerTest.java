@@ -0,0 +1,145 @@
+package com.phm.ecommerce.batch;
+
+import com.phm.ecommerce.application.service.CouponIssueBatchService;
+import com.phm.ecommerce.domain.coupon.Coupon;
+import com.phm.ecommerce.infrastructure.batch.consumer.CouponIssueConsumer;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.batch.consumer.CouponIssueConsumerProperties;
+import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
+import com.phm.ecommerce.infrastructure.repository.CouponRepository;
+import com.phm.ecommerce.infrastructure.repository.UserCouponRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class CouponIssueConsumerTest extends TestContainerSupport {
+
+  @Autowired
+  private CouponIssueConsumer couponIssueConsumer;
+
+  @Autowired
+  private CouponRepository couponRepository;
+
+  @Autowired
+  private UserCouponRepository userCouponRepository;
+
+  @Autowired
+  private CouponQueueService couponQueueService;
+
+  @Autowired
+  private CouponIssueBatchService couponIssueBatchService;
+
+  @Autowired
+  private RedisTemplate<String, Object> redisTemplate;
+
+  @BeforeEach
+  void setUp() {
+    userCouponRepository.deleteAll();
+    couponRepository.deleteAll();
+    couponIssueConsumer.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    couponIssueConsumer.stop();
+  }
+
+  @Test
+  @DisplayName("발급 요청이 들어오면 Quartz 주기를 기다리지 않고 바로 발급해야 한다")
+  void consumerShouldIssueAsSoonAsRequestsArrive() throws Exception {
+    // Given: 쿠폰 생성
+    Coupon coupon = couponRepository.save(Coupon.create("즉시 발급 쿠폰", 5000L, 100L, 30));
+
+    // When: 발급 요청이 대기열에 들어옴
+    for (long userId = 1; userId <= 3; userId++) {
+      couponQueueService.addCouponRequest(coupon.getId(), userId);
+    }
+
+    // Then: 몇 초 안에 모두 발급되고 대기열이 비어야 함
+    long deadline = System.currentTimeMillis() + 5000L;
+    while (userCouponRepository.countByCouponId(coupon.getId()) < 3
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(50);
+    }
+    assertThat(userCouponRepository.countByCouponId(coupon.getId())).isEqualTo(3);
+    assertThat(couponQueueService.getQueueSize(coupon.getId())).isZero();
+  }
+
+  @Test
+  @DisplayName("신호를 꺼낸 소비자가 대기열을 비우지 못하고 사라져도 주기 배치가 신호를 한 번만 다시 넣어야 한다")
+  void batchShouldResignalQueueWhoseSignalWasLost() {
+    // Given: 소비자가 신호를 꺼낸 뒤 죽어 대기열만 남은 상태
+    couponIssueConsumer.stop();
+    Coupon coupon = couponRepository.save(Coupon.create("신호 유실 쿠폰", 5000L, 1000L, 30));
+    for (long userId = 1; userId <= 150; userId++) {
+      couponQueueService.addCouponRequest(coupon.getId(), userId);
+    }
+    redisTemplate.delete(RedisCacheKeys.COUPON_QUEUE_SIGNAL);
+
+    // When: 주기 배치가 한 번에 처리할 수 있는 양보다 많이 남은 쿠폰을 두 번 처리
+    couponIssueBatchService.processCouponIssueQueue(coupon.getId());
+    boolean resignaledAgain = couponQueueService.resignalIfQueued(coupon.getId());
+
+    // Then: 남은 대기열에 대한 신호가 하나만 있어야 함
+    assertThat(couponQueueService.getQueueSize(coupon.getId())).isPositive();
+    assertThat(resignaledAgain).isFalse();
+    List<Object> signals = redisTemplate.opsForList().range(RedisCacheKeys.COUPON_QUEUE_SIGNAL, 0, -1);
+    assertThat(signals).hasSize(1);
+    assertThat(((Number) signals.get(0)).longValue()).isEqualTo(coupon.getId());
+  }
+
+  @Test
+  @DisplayName("종료하면 신호 대기를 멈추고 실행 상태가 해제되어야 한다")
+  void consumerShouldStopCleanly() {
+    // When
+    long startedAt = System.currentTimeMillis();
+    couponIssueConsumer.stop();
+
+    // Then: 신호 대기 시간(2초) 안에 종료되어야 함
+    assertThat(couponIssueConsumer.isRunning()).isFalse();
+    assertThat(System.currentTimeMillis() - startedAt).isLessThan(5000L);
+  }
+
+  @Test
+  @DisplayName("Redis 오류로 신호를 다시 넣지 못해도 소비자 스레드는 계속 신호를 기다려야 한다")
+  void consumerShouldSurviveRedisFailureWhileResignaling() throws Exception {
+    // Given: 대기열 조회와 신호 재등록이 모두 실패하는 Redis
+    CouponQueueService failingQueue = mock(CouponQueueService.class);
+    when(failingQueue.awaitSignaledCoupon(any())).thenReturn(1L).thenAnswer(invocation -> {
+      Thread.sleep(100);
+      return null;
+    });
+    when(failingQueue.getQueueSize(1L)).thenThrow(new RedisConnectionFailureException("down"));
+    doThrow(new RedisConnectionFailureException("down")).when(failingQueue).signalCoupon(1L);
+
+    CouponIssueConsumer consumer = new CouponIssueConsumer(failingQueue,
+        mock(CouponIssueBatchService.class), new CouponIssueConsumerProperties(false, 1, 1, 500, 5));
+
+    // When
+    consumer.start();
+    try {
+      // Then: 오류 후 대기(1초)가 지나면 다시 신호를 기다려야 함
+      verify(failingQueue, timeout(5000L).atLeast(2)).awaitSignaledCoupon(any());
+      assertThat(consumer.isRunning()).isTrue();
+    } finally {
+      consumer.stop();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.phm.ecommerce.batch;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.phm.ecommerce.application.service.ExternalOrderService;
 import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.infrastructure.dlq.ClaimedMessage;
 import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
 import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
 import com.phm.ecommerce.support.TestContainerSupport;
@@ -18,6 +19,7 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.redis.core.RedisTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,6 +27,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,14 +47,18 @@ class DLQRetryBatchJobTest extends TestContainerSupport {
   @Autowired
   private ObjectMapper redisObjectMapper;
 
+  @Autowired
+  private RedisTemplate<String, String> redisTemplate;
+
   @MockBean
   private ExternalOrderService externalOrderService;
 
   @BeforeEach
   void setUp() {
-    // DLQ 초기화
+    // DLQ 초기화 (이전 테스트가 남긴 처리 중 메시지 포함)
     List<DeadLetterMessage> messages = dlqService.getRetryableMessages();
     messages.forEach(msg -> dlqService.removeMessage(msg.id()));
+    redisTemplate.delete(List.of("dlq:inflight", "dlq:messages"));
   }
 
   @Test
@@ -218,4 +225,129 @@ class DLQRetryBatchJobTest extends TestContainerSupport {
     List<DeadLetterMessage> remainingMessages = dlqService.getRetryableMessages();
     assertThat(remainingMessages).isEmpty();
   }
+
+  @Test
+  @DisplayName("메시지를 가상 스레드에서 동시에 재전송해 순차 처리보다 빨리 끝나야 한다")
+  void dlqRetryBatchJobShouldReplayMessagesConcurrently() throws Exception {
+    // Given: 외부 호출마다 200ms가 걸리는 상태에서 메시지 20건 적재 (순차 처리 시 4초 이상)
+    int messageCount = 20;
+    for (int i = 1; i <= messageCount; i++) {
+      OrderCreatedEvent event = new OrderCreatedEvent((long) i, (long) i, 50000L, LocalDateTime.now());
+      dlqService.addToDeadLetterQueue(DeadLetterMessage.create(
+          "parallel-message-" + i,
+          redisObjectMapper.writeValueAsString(event),
+          "ExternalOrderService",
+          "Network timeout"
+      ));
+    }
+    doAnswer(invocation -> {
+      Thread.sleep(200);
+      return null;
+    }).when(externalOrderService)
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    long startedAt = System.currentTimeMillis();
+    JobExecution jobExecution = jobLauncher.run(dlqRetryJob, jobParameters);
+    long elapsedMillis = System.currentTimeMillis() - startedAt;
+
+    // Then: 모든 메시지가 처리되고, 순차 처리 시간보다 훨씬 짧게 끝나야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    verify(externalOrderService, times(messageCount))
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+    assertThat(dlqService.getRetryableMessages()).isEmpty();
+    assertThat(elapsedMillis).isLessThan(messageCount * 200L / 2);
+  }
+
+  @Test
+  @DisplayName("다른 워커가 임대 중인 메시지는 가져가지 않아야 한다")
+  void dlqRetryBatchJobShouldSkipMessagesClaimedByAnotherWorker() throws Exception {
+    // Given: 다른 워커가 30초 임대로 가져간 메시지
+    OrderCreatedEvent event = new OrderCreatedEvent(1L, 1L, 50000L, LocalDateTime.now());
+    dlqService.addToDeadLetterQueue(DeadLetterMessage.create(
+        "claimed-message",
+        redisObjectMapper.writeValueAsString(event),
+        "ExternalOrderService",
+        "Network timeout"
+    ));
+    assertThat(dlqService.claimRetryableMessages(LocalDateTime.now(), 10, 30)).hasSize(1);
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    JobExecution jobExecution = jobLauncher.run(dlqRetryJob, jobParameters);
+
+    // Then: 임대 중인 메시지는 처리되지 않아야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    verify(externalOrderService, times(0))
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+    assertThat(dlqService.countInFlightMessages()).isEqualTo(1);
+
+    dlqService.removeMessage("claimed-message");
+  }
+
+  @Test
+  @DisplayName("임대가 만료된 메시지는 다시 가져가 처리해야 한다")
+  void dlqRetryBatchJobShouldReclaimExpiredMessages() throws Exception {
+    // Given: 가져간 워커가 결과를 반영하지 못한 채 임대가 만료된 메시지
+    OrderCreatedEvent event = new OrderCreatedEvent(1L, 1L, 50000L, LocalDateTime.now());
+    dlqService.addToDeadLetterQueue(DeadLetterMessage.create(
+        "expired-message",
+        redisObjectMapper.writeValueAsString(event),
+        "ExternalOrderService",
+        "Network timeout"
+    ));
+    assertThat(dlqService.claimRetryableMessages(LocalDateTime.now(), 10, 0)).hasSize(1);
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    JobExecution jobExecution = jobLauncher.run(dlqRetryJob, jobParameters);
+
+    // Then: 메시지가 한 번 재전송되고 DLQ와 처리 중 목록에서 모두 제거되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    verify(externalOrderService, times(1))
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+    assertThat(dlqService.getRetryableMessages()).isEmpty();
+    assertThat(dlqService.countInFlightMessages()).isZero();
+  }
+
+  @Test
+  @DisplayName("임대가 만료된 워커의 늦은 결과 반영은 새 워커의 처리를 덮어쓰지 않아야 한다")
+  void staleClaimShouldNotOverwriteNewOwner() throws Exception {
+    // Given: 첫 워커의 임대가 만료된 뒤 두 번째 워커가 같은 메시지를 다시 가져감
+    OrderCreatedEvent event = new OrderCreatedEvent(1L, 1L, 50000L, LocalDateTime.now());
+    dlqService.addToDeadLetterQueue(DeadLetterMessage.create(
+        "stale-message",
+        redisObjectMapper.writeValueAsString(event),
+        "ExternalOrderService",
+        "Network timeout"
+    ));
+    List<ClaimedMessage> stale = dlqService.claimRetryableMessages(LocalDateTime.now(), 10, 0);
+    assertThat(stale).hasSize(1);
+    Thread.sleep(10);
+    List<ClaimedMessage> current = dlqService.claimRetryableMessages(LocalDateTime.now(), 10, 30);
+    assertThat(current).hasSize(1);
+
+    // And: 두 번째 워커가 전송에 성공해 메시지를 제거
+    assertThat(dlqService.removeClaimedMessage(current.get(0))).isTrue();
+
+    // When: 첫 워커가 뒤늦게 실패를 반영
+    boolean rescheduled = dlqService.rescheduleClaimedMessage(
+        stale.get(0), stale.get(0).message().incrementRetryCount());
+
+    // Then: 반영이 무시되고 메시지가 되살아나지 않아야 함
+    assertThat(rescheduled).isFalse();
+    assertThat(dlqService.removeClaimedMessage(stale.get(0))).isFalse();
+    assertThat(dlqService.getRetryableMessages()).isEmpty();
+    assertThat(dlqService.countInFlightMessages()).isZero();
+  }
 }
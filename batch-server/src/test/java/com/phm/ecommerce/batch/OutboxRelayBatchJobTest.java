@@ -0,0 +1,148 @@
+package com.phm.ecommerce.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phm.ecommerce.application.service.ExternalOrderService;
+import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEventType;
+import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
+import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
+import com.phm.ecommerce.infrastructure.outbox.OutboxProperties;
+import com.phm.ecommerce.infrastructure.repository.OutboxEventRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 스케줄된 릴레이가 테스트 도중 재시도하지 않도록 재시도 간격을 늘린다
+@SpringBootTest(properties = "outbox.relay.retry-delay-seconds=60")
+class OutboxRelayBatchJobTest extends TestContainerSupport {
+
+  @Autowired
+  private JobLauncher jobLauncher;
+
+  @Autowired
+  private Job outboxRelayJob;
+
+  @Autowired
+  private OutboxEventRepository outboxEventRepository;
+
+  @Autowired
+  private OutboxProperties outboxProperties;
+
+  @Autowired
+  private RedisDLQService dlqService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private ExternalOrderService externalOrderService;
+
+  @BeforeEach
+  void setUp() {
+    outboxEventRepository.deleteAll();
+    dlqService.getRetryableMessages().forEach(message -> dlqService.removeMessage(message.id()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    outboxEventRepository.deleteAll();
+  }
+
+  @Test
+  @DisplayName("아웃박스의 주문 생성 이벤트를 모두 전달하고 삭제해야 한다")
+  void outboxRelayShouldDeliverAndDeleteEvents() throws Exception {
+    // Given: 아웃박스에 주문 생성 이벤트 5건 적재
+    for (long orderId = 1; orderId <= 5; orderId++) {
+      saveOrderCreatedEvent(orderId, 0);
+    }
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(outboxRelayJob, newJobParameters());
+
+    // Then: Job이 성공적으로 완료되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+    // And: 모든 이벤트가 외부 시스템에 전달되고 아웃박스에서 삭제되어야 함
+    verify(externalOrderService, times(5))
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+    assertThat(outboxEventRepository.count()).isZero();
+  }
+
+  @Test
+  @DisplayName("전달에 실패하면 시도 횟수를 늘리고 다음 시도 시각을 미뤄야 한다")
+  void outboxRelayShouldRescheduleFailedEvents() throws Exception {
+    // Given: 외부 시스템이 실패하는 상태에서 이벤트 1건 적재
+    OutboxEvent saved = saveOrderCreatedEvent(1L, 0);
+    doThrow(new RuntimeException("External system unavailable"))
+        .when(externalOrderService)
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(outboxRelayJob, newJobParameters());
+
+    // Then: 일부 이벤트 실패는 Job 실패로 이어지지 않음
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+    // And: 이벤트가 남아 있고 재시도가 예약되어야 함
+    OutboxEvent event = outboxEventRepository.findById(saved.getId()).orElseThrow();
+    assertThat(event.getAttemptCount()).isEqualTo(1);
+    assertThat(event.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    assertThat(dlqService.getRetryableMessages()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("최대 시도 횟수에 도달한 이벤트는 DLQ로 넘기고 아웃박스에서 삭제해야 한다")
+  void outboxRelayShouldMoveExhaustedEventsToDeadLetterQueue() throws Exception {
+    // Given: 마지막 시도만 남은 이벤트
+    saveOrderCreatedEvent(7L, outboxProperties.getMaxAttempts() - 1);
+    doThrow(new RuntimeException("External system unavailable"))
+        .when(externalOrderService)
+        .sendOrderToExternalSystem(anyLong(), anyLong(), anyLong(), any(LocalDateTime.class));
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(outboxRelayJob, newJobParameters());
+
+    // Then: 아웃박스에서 삭제되고 DLQ에 원본 이벤트가 저장되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(outboxEventRepository.count()).isZero();
+
+    List<DeadLetterMessage> messages = dlqService.getRetryableMessages();
+    assertThat(messages).extracting(DeadLetterMessage::id).containsExactly("order:7");
+    assertThat(objectMapper.readValue(messages.get(0).originalMessage(), OrderCreatedEvent.class).orderId())
+        .isEqualTo(7L);
+  }
+
+  private OutboxEvent saveOrderCreatedEvent(Long orderId, int attemptCount) throws Exception {
+    OrderCreatedEvent event = new OrderCreatedEvent(orderId, 1L, 50000L, LocalDateTime.now());
+    return outboxEventRepository.save(new OutboxEvent(null, OutboxEventType.ORDER_CREATED, orderId,
+        objectMapper.writeValueAsString(event), attemptCount, LocalDateTime.now().minusSeconds(1)));
+  }
+
+  private JobParameters newJobParameters() {
+    return new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+  }
+}
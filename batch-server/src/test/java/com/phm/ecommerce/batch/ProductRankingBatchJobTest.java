@@ -2,6 +2,7 @@ package com.phm.ecommerce.batch;
 
 import com.phm.ecommerce.domain.product.Product;
 import com.phm.ecommerce.infrastructure.cache.ProductRankingService;
+import com.phm.ecommerce.infrastructure.cache.ProductViewCountService;
 import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
 import com.phm.ecommerce.support.TestContainerSupport;
@@ -18,9 +19,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 
 @SpringBootTest
 class ProductRankingBatchJobTest extends TestContainerSupport {
@@ -37,6 +43,9 @@ class ProductRankingBatchJobTest extends TestContainerSupport {
   @Autowired
   private ProductRankingService productRankingService;
 
+  @Autowired
+  private ProductViewCountService productViewCountService;
+
   @Autowired
   private RedisTemplate<String, Object> redisTemplate;
 
@@ -45,6 +54,8 @@ class ProductRankingBatchJobTest extends TestContainerSupport {
     productRepository.deleteAll();
     // Clear Redis ranking cache directly
     redisTemplate.delete(RedisCacheKeys.PRODUCT_RANKING);
+    redisTemplate.delete(List.of(
+        RedisCacheKeys.PRODUCT_VIEW_PENDING, RedisCacheKeys.PRODUCT_VIEW_PROCESSING));
   }
 
   @Test
@@ -100,8 +111,8 @@ class ProductRankingBatchJobTest extends TestContainerSupport {
   }
 
   @Test
-  @DisplayName("100개 이상의 상품이 있어도 상위 100개만 랭킹에 저장되어야 한다")
-  void productRankingBatchJobShouldStoreOnlyTop100() throws Exception {
+  @DisplayName("100개 이상의 상품이 있어도 점수가 있는 모든 상품이 랭킹에 저장되어야 한다")
+  void productRankingBatchJobShouldStoreAllScoredProducts() throws Exception {
     // Given: 150개의 상품 생성
     for (int i = 0; i < 150; i++) {
       Product product = Product.create(
@@ -124,9 +135,69 @@ class ProductRankingBatchJobTest extends TestContainerSupport {
     // Then: Job이 성공적으로 완료되어야 함
     assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
 
-    // And: 최대 100개의 상품만 랭킹에 저장되어야 함
-    List<Long> topProductIds = productRankingService.getTopProductIds(150);
-    assertThat(topProductIds.size()).isLessThanOrEqualTo(100);
+    // And: 실시간 증분 반영의 기준이 되도록 모든 상품이 랭킹에 저장되어야 함
+    List<Long> topProductIds = productRankingService.getTopProductIds(200);
+    assertThat(topProductIds).hasSize(150);
+  }
+
+  @Test
+  @DisplayName("보정 배치는 어긋난 점수를 DB와 미반영 조회수 기준으로 다시 맞춰야 한다")
+  void productRankingBatchJobShouldReconcileScores() throws Exception {
+    // Given: DB 판매량 10, 미반영 조회수 5, 잘못 누적된 랭킹 점수
+    Product product = Product.create("보정 상품", 10000L, 100L);
+    product.increaseSalesCount(10L);
+    product = productRepository.save(product);
+    for (int i = 0; i < 5; i++) {
+      productViewCountService.increment(product.getId());
+    }
+    redisTemplate.opsForZSet().add(RedisCacheKeys.PRODUCT_RANKING, product.getId(), 999.0);
+
+    // When: 배치 Job 실행
+    JobParameters jobParameters = new JobParametersBuilder()
+        .addLong("timestamp", System.currentTimeMillis())
+        .toJobParameters();
+
+    JobExecution jobExecution = jobLauncher.run(productRankingJob, jobParameters);
+
+    // Then: 점수가 DB 판매량과 미반영 조회수 기준으로 보정되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    Double score = redisTemplate.opsForZSet().score(RedisCacheKeys.PRODUCT_RANKING, product.getId());
+    assertThat(score).isCloseTo(Product.calculatePopularityScore(5L, 10L), within(0.0001));
+  }
+
+  @Test
+  @DisplayName("랭킹을 교체하는 동안에도 조회 측은 빈 랭킹을 보지 않아야 한다")
+  void updateRankingShouldNeverExposeEmptyRanking() throws Exception {
+    // Given: 기존 랭킹
+    Map<Long, Double> scores = new HashMap<>();
+    for (long productId = 1; productId <= 3000; productId++) {
+      scores.put(productId, (double) productId);
+    }
+    productRankingService.updateRanking(scores);
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicInteger emptyReads = new AtomicInteger();
+    Thread reader = new Thread(() -> {
+      while (running.get()) {
+        if (productRankingService.getTopProductIds(5).isEmpty()) {
+          emptyReads.incrementAndGet();
+        }
+      }
+    });
+
+    // When: 조회 중에 랭킹을 여러 번 교체
+    reader.start();
+    for (int i = 0; i < 5; i++) {
+      productRankingService.updateRanking(scores);
+    }
+    running.set(false);
+    reader.join();
+
+    // Then: 빈 랭킹이 한 번도 조회되지 않고, 임시 키와 만료가 남지 않아야 함
+    assertThat(emptyReads.get()).isZero();
+    assertThat(redisTemplate.keys(RedisCacheKeys.PRODUCT_RANKING + ":staging:*")).isEmpty();
+    assertThat(redisTemplate.getExpire(RedisCacheKeys.PRODUCT_RANKING)).isEqualTo(-1L);
+    assertThat(redisTemplate.opsForZSet().zCard(RedisCacheKeys.PRODUCT_RANKING)).isEqualTo(3000L);
   }
 
   private void createProducts() {
@@ -0,0 +1,224 @@
+package com.phm.ecommerce.batch;
+
+import com.phm.ecommerce.domain.common.TimeOrderedIdGenerator;
+import com.phm.ecommerce.domain.order.Order;
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.DrainedReservations;
+import com.phm.ecommerce.infrastructure.cache.ProductStockReservationService.StockHold;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.repository.OrderRepository;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "product.stock.reserved-product-ids="
+    + ProductStockReservationSyncBatchJobTest.RESERVED_PRODUCT_ID)
+class ProductStockReservationSyncBatchJobTest extends TestContainerSupport {
+
+  // 예약 상품 목록은 기동 시점에 정해지므로 미리 알고 있는 ID로 상품을 만든다
+  static final long RESERVED_PRODUCT_ID = 900_101L;
+
+  @Autowired
+  private JobLauncher jobLauncher;
+
+  @Autowired
+  private Job productStockReservationSyncJob;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private ProductStockReservationService productStockReservationService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
+
+  @BeforeEach
+  void setUp() {
+    productRepository.deleteAll();
+    stringRedisTemplate.delete(List.of(
+        RedisCacheKeys.PRODUCT_STOCK_PENDING, RedisCacheKeys.PRODUCT_STOCK_PROCESSING,
+        RedisCacheKeys.PRODUCT_STOCK_PROCESSING_TOKEN, RedisCacheKeys.PRODUCT_STOCK_HOLDS,
+        RedisCacheKeys.PRODUCT_STOCK_HOLD_ORDERS));
+    stringRedisTemplate.delete(RedisCacheKeys.productStock(RESERVED_PRODUCT_ID));
+  }
+
+  @Test
+  @DisplayName("Redis에서 예약된 재고가 products.quantity와 sales_count에 일괄 확정되어야 한다")
+  void syncShouldConfirmReservedStocks() throws Exception {
+    // Given: 재고 100개 상품에 3개, 2개 예약
+    Product product = saveReservedProduct(100L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    reserveAndConfirm(product.getId(), 3L);
+    reserveAndConfirm(product.getId(), 2L);
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: Job이 성공적으로 완료되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+    // And: 예약이 DB에 확정되어야 함
+    Product confirmed = productRepository.findByIdOrThrow(product.getId());
+    assertThat(confirmed.getQuantity()).isEqualTo(95L);
+    assertThat(confirmed.getSalesCount()).isEqualTo(5L);
+
+    // And: Redis 카운터는 확정 후에도 그대로 유지되어야 함
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("95");
+  }
+
+  @Test
+  @DisplayName("Redis 카운터가 DB 재고와 어긋나면 확정되지 않은 예약을 고려해 보정되어야 한다")
+  void syncShouldReconcileDriftedCounter() throws Exception {
+    // Given: 카운터가 DB 재고보다 10개 많아진 상태에서 예약 1개가 대기 중
+    Product product = saveReservedProduct(50L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    stringRedisTemplate.opsForValue().increment(RedisCacheKeys.productStock(product.getId()), 10L);
+    reserveAndConfirm(product.getId(), 1L);
+
+    // When: 배치 Job 실행
+    jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: 예약이 확정되고 카운터는 DB 재고와 같아져야 함
+    assertThat(productRepository.findByIdOrThrow(product.getId()).getQuantity()).isEqualTo(49L);
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("49");
+  }
+
+  @Test
+  @DisplayName("확정 전에 해제된 예약은 DB에 반영되지 않아야 한다")
+  void syncShouldIgnoreReleasedReservations() throws Exception {
+    // Given: 예약 후 주문 롤백으로 해제된 상품
+    Product product = saveReservedProduct(10L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    StockHold hold = newHold(product.getId(), 4L);
+    productStockReservationService.reserve(hold, Duration.ofMinutes(5));
+    productStockReservationService.release(List.of(hold));
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: 재고가 그대로 유지되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    assertThat(productRepository.findByIdOrThrow(product.getId()).getQuantity()).isEqualTo(10L);
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("10");
+  }
+
+  @Test
+  @DisplayName("주문이 커밋되지 않은 채 만료된 hold는 확정되지 않고 카운터에 되돌려져야 한다")
+  void syncShouldReleaseExpiredHoldWithoutCommittedOrder() throws Exception {
+    // Given: 예약 후 커밋도 롤백도 반영되지 않은 채 만료된 hold
+    Product product = saveReservedProduct(10L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    StockHold hold = newHold(product.getId(), 3L);
+    productStockReservationService.reserve(hold, Duration.ZERO);
+    productStockReservationService.bindOrder(List.of(hold), TimeOrderedIdGenerator.nextId());
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: DB 재고는 그대로이고 카운터도 원래대로 돌아와야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    Product unchanged = productRepository.findByIdOrThrow(product.getId());
+    assertThat(unchanged.getQuantity()).isEqualTo(10L);
+    assertThat(unchanged.getSalesCount()).isZero();
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("10");
+    assertThat(stringRedisTemplate.opsForZSet().zCard(RedisCacheKeys.PRODUCT_STOCK_HOLDS)).isZero();
+  }
+
+  @Test
+  @DisplayName("커밋된 주문에 연결된 채 만료된 hold는 DB에 확정되어야 한다")
+  void syncShouldConfirmExpiredHoldOfCommittedOrder() throws Exception {
+    // Given: 주문은 커밋되었지만 커밋 후 확정이 유실된 hold
+    Product product = saveReservedProduct(10L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    StockHold hold = newHold(product.getId(), 3L);
+    productStockReservationService.reserve(hold, Duration.ZERO);
+    Order order = orderRepository.save(Order.create(1L, 30000L, 0L));
+    productStockReservationService.bindOrder(List.of(hold), order.getId());
+
+    // When: 배치 Job 실행
+    jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: 예약이 DB에 확정되고 카운터는 DB 재고와 같아야 함
+    Product confirmed = productRepository.findByIdOrThrow(product.getId());
+    assertThat(confirmed.getQuantity()).isEqualTo(7L);
+    assertThat(confirmed.getSalesCount()).isEqualTo(3L);
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("7");
+  }
+
+  @Test
+  @DisplayName("DB 반영 후 정리 전에 중단된 묶음은 다음 실행에서 다시 반영되지 않고 정리만 되어야 한다")
+  void syncShouldNotConfirmSameDrainTwice() throws Exception {
+    // Given: 예약 묶음을 DB에 반영했지만 processing 해시를 정리하기 전에 중단된 상태
+    Product product = saveReservedProduct(20L);
+    productStockReservationService.initialize(product.getId(), product.getQuantity());
+    reserveAndConfirm(product.getId(), 4L);
+    DrainedReservations drained = productStockReservationService.drainPendingReservations();
+    productRepository.confirmReservedStocks(drained.token(), drained.quantities());
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productStockReservationSyncJob, newJobParameters());
+
+    // Then: 재고는 한 번만 차감되고 processing 해시는 정리되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+    Product confirmed = productRepository.findByIdOrThrow(product.getId());
+    assertThat(confirmed.getQuantity()).isEqualTo(16L);
+    assertThat(confirmed.getSalesCount()).isEqualTo(4L);
+    assertThat(stringRedisTemplate.hasKey(RedisCacheKeys.PRODUCT_STOCK_PROCESSING)).isFalse();
+    assertThat(stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(product.getId())))
+        .isEqualTo("16");
+  }
+
+  private void reserveAndConfirm(Long productId, Long quantity) {
+    StockHold hold = newHold(productId, quantity);
+    productStockReservationService.reserve(hold, Duration.ofMinutes(5));
+    productStockReservationService.confirm(List.of(hold));
+  }
+
+  private StockHold newHold(Long productId, Long quantity) {
+    return new StockHold(TimeOrderedIdGenerator.nextId(), productId, quantity);
+  }
+
+  private Product saveReservedProduct(Long quantity) {
+    jdbcTemplate.update(
+        "INSERT INTO products (id, name, price, quantity, view_count, sales_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, 0, 0, NOW(6), NOW(6))",
+        RESERVED_PRODUCT_ID, "플래시 세일 상품", 10000L, quantity);
+    return productRepository.findByIdOrThrow(RESERVED_PRODUCT_ID);
+  }
+
+  private JobParameters newJobParameters() {
+    return new JobParametersBuilder()
+        .addLong("timestamp", System.nanoTime())
+        .toJobParameters();
+  }
+}
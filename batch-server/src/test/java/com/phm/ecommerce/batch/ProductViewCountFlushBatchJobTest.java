@@ -0,0 +1,109 @@
+package com.phm.ecommerce.batch;
+
+import com.phm.ecommerce.domain.product.Product;
+import com.phm.ecommerce.infrastructure.cache.ProductViewCountService;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import com.phm.ecommerce.infrastructure.repository.ProductRepository;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductViewCountFlushBatchJobTest extends TestContainerSupport {
+
+  @Autowired
+  private JobLauncher jobLauncher;
+
+  @Autowired
+  private Job productViewCountFlushJob;
+
+  @Autowired
+  private ProductRepository productRepository;
+
+  @Autowired
+  private ProductViewCountService productViewCountService;
+
+  @Autowired
+  private StringRedisTemplate stringRedisTemplate;
+
+  @BeforeEach
+  void setUp() {
+    productRepository.deleteAll();
+    stringRedisTemplate.delete(List.of(
+        RedisCacheKeys.PRODUCT_VIEW_PENDING, RedisCacheKeys.PRODUCT_VIEW_PROCESSING));
+  }
+
+  @Test
+  @DisplayName("Redis에 누적된 조회수가 products.view_count에 일괄 반영되어야 한다")
+  void flushShouldApplyPendingViewCounts() throws Exception {
+    // Given: 조회수가 누적된 상품 2개
+    Product product1 = productRepository.save(Product.create("상품1", 10000L, 10L));
+    Product product2 = productRepository.save(Product.create("상품2", 20000L, 10L));
+    for (int i = 0; i < 5; i++) {
+      productViewCountService.increment(product1.getId());
+    }
+    productViewCountService.increment(product2.getId());
+
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productViewCountFlushJob, newJobParameters());
+
+    // Then: Job이 성공적으로 완료되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+    // And: 조회수가 DB에 반영되어야 함
+    assertThat(productRepository.findByIdOrThrow(product1.getId()).getViewCount()).isEqualTo(5L);
+    assertThat(productRepository.findByIdOrThrow(product2.getId()).getViewCount()).isEqualTo(1L);
+
+    // And: 반영된 조회수는 Redis에서 제거되어야 함
+    assertThat(productViewCountService.getUnflushedCounts(
+        List.of(product1.getId(), product2.getId()))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("이전 반영이 중단되어 남은 조회수도 다음 실행에서 함께 반영되어야 한다")
+  void flushShouldRecoverInterruptedDrain() throws Exception {
+    // Given: 반영 중 중단되어 processing 해시에 남은 조회수와 새로 누적된 조회수
+    Product product = productRepository.save(Product.create("상품", 10000L, 10L));
+    productViewCountService.increment(product.getId());
+    productViewCountService.increment(product.getId());
+    productViewCountService.drainPendingCounts();
+    productViewCountService.increment(product.getId());
+
+    // When: 배치 Job을 두 번 실행
+    jobLauncher.run(productViewCountFlushJob, newJobParameters());
+    jobLauncher.run(productViewCountFlushJob, newJobParameters());
+
+    // Then: 모든 조회수가 한 번씩만 반영되어야 함
+    assertThat(productRepository.findByIdOrThrow(product.getId()).getViewCount()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("반영할 조회수가 없어도 배치가 성공적으로 완료되어야 한다")
+  void flushShouldCompleteWithoutPendingCounts() throws Exception {
+    // When: 배치 Job 실행
+    JobExecution jobExecution = jobLauncher.run(productViewCountFlushJob, newJobParameters());
+
+    // Then: Job이 성공적으로 완료되어야 함
+    assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+  }
+
+  private JobParameters newJobParameters() {
+    return new JobParametersBuilder()
+        .addLong("timestamp", System.nanoTime())
+        .toJobParameters();
+  }
+}
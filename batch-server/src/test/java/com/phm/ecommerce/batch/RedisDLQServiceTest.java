@@ -0,0 +1,143 @@
+package com.phm.ecommerce.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phm.ecommerce.infrastructure.dlq.ClaimedMessage;
+import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
+import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
+import com.phm.ecommerce.support.TestContainerSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RedisDLQServiceTest extends TestContainerSupport {
+
+  private static final String RETRY_QUEUE_KEY = "dlq:retry:queue";
+  private static final String MESSAGES_KEY = "dlq:messages";
+  private static final String IN_FLIGHT_KEY = "dlq:inflight";
+
+  @Autowired
+  private RedisDLQService dlqService;
+
+  @Autowired
+  private ObjectMapper redisObjectMapper;
+
+  @Autowired
+  private RedisTemplate<String, String> redisTemplate;
+
+  // 스케줄된 재시도 배치가 가져가지 않도록 테스트 메시지는 미래 시각에 둔다
+  private LocalDateTime baseTime;
+
+  @BeforeEach
+  void setUp() {
+    redisTemplate.delete(List.of(RETRY_QUEUE_KEY, MESSAGES_KEY, IN_FLIGHT_KEY));
+    baseTime = LocalDateTime.now().plusDays(1);
+  }
+
+  @Test
+  @DisplayName("재예약은 처리 중 표시를 지우고 재시도 큐와 본문을 함께 갱신해야 한다")
+  void updateShouldMoveClaimedMessageBackToRetryQueue() throws Exception {
+    // Given: 워커가 가져가 처리 중인 메시지
+    String id = seed("claimed-", 1, baseTime).get(0);
+    redisTemplate.opsForZSet().remove(RETRY_QUEUE_KEY, id);
+    redisTemplate.opsForZSet().add(IN_FLIGHT_KEY, id, toMillis(baseTime));
+    DeadLetterMessage message = DeadLetterMessage.create(id, "{}", "TestException", "failed")
+        .incrementRetryCount();
+
+    // When
+    dlqService.updateMessage(message);
+
+    // Then: 처리 중 ZSET에서 빠지고 재시도 큐와 본문에는 새 값이 있어야 함
+    assertThat(redisTemplate.opsForZSet().score(IN_FLIGHT_KEY, id)).isNull();
+    assertThat(redisTemplate.opsForZSet().score(RETRY_QUEUE_KEY, id)).isNotNull();
+    String json = (String) redisTemplate.opsForHash().get(MESSAGES_KEY, id);
+    assertThat(redisObjectMapper.readValue(json, DeadLetterMessage.class).retryCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("가져간 메시지의 본문을 읽을 수 없으면 재시도 큐, 처리 중 표시, 본문에서 모두 제거해야 한다")
+  void claimShouldRemoveUnparsableMessage() throws Exception {
+    // Given: 정상 메시지 하나와 본문이 깨진 메시지 하나
+    String valid = seed("claim-valid-", 1, baseTime).get(0);
+    String broken = "claim-broken";
+    redisTemplate.opsForHash().put(MESSAGES_KEY, broken, "{not-json");
+    redisTemplate.opsForZSet().add(RETRY_QUEUE_KEY, broken, toMillis(baseTime));
+
+    // When
+    List<String> claimed = dlqService.claimRetryableMessages(baseTime.plusMinutes(1), 10, 30).stream()
+        .map(ClaimedMessage::id)
+        .toList();
+
+    // Then: 정상 메시지만 가져가고, 깨진 메시지는 어디에도 남지 않아야 함
+    assertThat(claimed).containsExactly(valid);
+    assertThat(redisTemplate.opsForZSet().score(RETRY_QUEUE_KEY, broken)).isNull();
+    assertThat(redisTemplate.opsForZSet().score(IN_FLIGHT_KEY, broken)).isNull();
+    assertThat(redisTemplate.opsForHash().hasKey(MESSAGES_KEY, broken)).isFalse();
+  }
+
+  @Test
+  @DisplayName("같은 메시지를 동시에 저장하고 제거해도 재시도 큐와 본문이 어긋나지 않아야 한다")
+  void concurrentUpsertAndRemoveShouldKeepQueueAndHashConsistent() throws Exception {
+    // Given
+    int iterations = 200;
+    String id = "atomic-1";
+    DeadLetterMessage message = DeadLetterMessage.create(id, "{}", "TestException", "failed");
+    ExecutorService executorService = Executors.newFixedThreadPool(8);
+    CountDownLatch latch = new CountDownLatch(iterations);
+
+    // When: 저장과 제거를 번갈아 동시에 실행
+    for (int i = 0; i < iterations; i++) {
+      boolean add = i % 2 == 0;
+      executorService.submit(() -> {
+        try {
+          if (add) {
+            dlqService.addToDeadLetterQueue(message);
+          } else {
+            dlqService.removeMessage(id);
+          }
+        } finally {
+          latch.countDown();
+        }
+      });
+    }
+    assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+    executorService.shutdown();
+
+    // Then: 재시도 큐와 본문에 둘 다 있거나 둘 다 없어야 함
+    boolean inQueue = redisTemplate.opsForZSet().score(RETRY_QUEUE_KEY, id) != null;
+    boolean inHash = Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(MESSAGES_KEY, id));
+    assertThat(inQueue).isEqualTo(inHash);
+    assertThat(redisTemplate.opsForZSet().score(IN_FLIGHT_KEY, id)).isNull();
+  }
+
+  private List<String> seed(String prefix, int count, LocalDateTime retryAt) throws Exception {
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      String id = prefix + i;
+      DeadLetterMessage message = DeadLetterMessage.create(id, "{}", "TestException", "failed")
+          .withNextRetryAt(retryAt);
+      redisTemplate.opsForHash().put(MESSAGES_KEY, id, redisObjectMapper.writeValueAsString(message));
+      redisTemplate.opsForZSet().add(RETRY_QUEUE_KEY, id, toMillis(retryAt));
+      ids.add(id);
+    }
+    return ids;
+  }
+
+  private double toMillis(LocalDateTime dateTime) {
+    return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
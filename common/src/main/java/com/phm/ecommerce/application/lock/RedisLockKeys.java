@@ -22,7 +22,7 @@ public final class RedisLockKeys {
     return "ranking:update";
   }
 
-  public static String dlqRetry() {
-    return "dlq:retry";
+  public static String viewCountFlush() {
+    return "view:count:flush";
   }
 }
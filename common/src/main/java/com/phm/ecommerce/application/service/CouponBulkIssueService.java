@@ -0,0 +1,103 @@
+package com.phm.ecommerce.application.service;
+
+import com.phm.ecommerce.domain.coupon.Coupon;
+import com.phm.ecommerce.infrastructure.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대기열에서 꺼낸 요청을 사용자 수와 관계없이 일정한 쿼리 수로 발급한다.
+ * 조건부 UPDATE로 수량을 한 번에 예약하고, user_coupons는 중복 키만 건너뛰는 다중 행 INSERT로 넣는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CouponBulkIssueService {
+
+  private final CouponRepository couponRepository;
+
+  /**
+   * 요청 순서대로 발급하고 사용자별 결과를 반환한다. 수량이 모자라면 앞선 요청부터 발급한다.
+   */
+  @Transactional
+  public BulkIssueResult issueCoupons(Long couponId, List<Long> userIds) {
+    Map<Long, IssueOutcome> outcomes = new LinkedHashMap<>();
+    if (userIds.isEmpty()) {
+      return new BulkIssueResult(couponId, outcomes);
+    }
+
+    Coupon coupon = couponRepository.findByIdOrThrow(couponId);
+
+    Set<Long> alreadyIssued = couponRepository.findIssuedUserIds(couponId, userIds);
+    List<Long> candidates = userIds.stream()
+        .distinct()
+        .filter(userId -> !alreadyIssued.contains(userId))
+        .toList();
+    userIds.forEach(userId -> outcomes.put(userId, IssueOutcome.DUPLICATE));
+
+    long reserved = reserve(couponId, candidates.size());
+    List<Long> granted = candidates.subList(0, (int) reserved);
+    candidates.subList((int) reserved, candidates.size())
+        .forEach(userId -> outcomes.put(userId, IssueOutcome.SOLD_OUT));
+
+    LocalDateTime issuedAt = LocalDateTime.now();
+    Set<Long> inserted = couponRepository.insertUserCoupons(
+        couponId, granted, issuedAt, issuedAt.plusDays(coupon.getValidDays()));
+    granted.forEach(userId -> outcomes.put(userId,
+        inserted.contains(userId) ? IssueOutcome.ISSUED : IssueOutcome.DUPLICATE));
+
+    // 조회 이후 다른 트랜잭션이 먼저 발급한 사용자만큼 예약을 되돌린다
+    if (reserved > inserted.size()) {
+      couponRepository.decreaseIssuedQuantity(couponId, reserved - inserted.size());
+    }
+
+    BulkIssueResult result = new BulkIssueResult(couponId, outcomes);
+    log.info("쿠폰 일괄 발급 - couponId: {}, 요청: {}, 발급: {}, 중복: {}, 소진: {}",
+        couponId, userIds.size(), result.count(IssueOutcome.ISSUED),
+        result.count(IssueOutcome.DUPLICATE), result.count(IssueOutcome.SOLD_OUT));
+    return result;
+  }
+
+  /**
+   * 대부분은 요청 수량 전체가 남아 있으므로 조건부 UPDATE 한 번으로 끝난다.
+   * 소진 직전이면 남은 수량을 행 잠금으로 읽어 그만큼만 예약하므로, 한 번 더 읽고 쓰는 것으로 끝난다.
+   */
+  private long reserve(Long couponId, long quantity) {
+    if (quantity == 0 || couponRepository.increaseIssuedQuantity(couponId, quantity) > 0) {
+      return quantity;
+    }
+
+    long granted = Math.min(quantity, Math.max(couponRepository.findRemainingQuantityForUpdate(couponId), 0L));
+    if (granted > 0) {
+      couponRepository.increaseIssuedQuantity(couponId, granted);
+    }
+    return granted;
+  }
+
+  public enum IssueOutcome {
+    ISSUED,
+    DUPLICATE,
+    SOLD_OUT
+  }
+
+  public record BulkIssueResult(
+      Long couponId,
+      Map<Long, IssueOutcome> outcomes) {
+
+    public long count(IssueOutcome outcome) {
+      return outcomes.values().stream().filter(outcome::equals).count();
+    }
+
+    public boolean soldOut() {
+      return outcomes.containsValue(IssueOutcome.SOLD_OUT);
+    }
+  }
+}
@@ -1,14 +1,19 @@
 package com.phm.ecommerce.application.service;
 
 import com.phm.ecommerce.application.lock.DistributedLock;
+import com.phm.ecommerce.application.lock.LockAcquisitionException;
 import com.phm.ecommerce.application.lock.RedisLockKeys;
 import com.phm.ecommerce.infrastructure.queue.CouponQueueService;
+import com.phm.ecommerce.infrastructure.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -18,22 +23,59 @@ public class CouponIssueBatchService {
 
   private final CouponQueueService couponQueueService;
   private final CouponIssueService couponIssueService;
+  private final CouponBulkIssueService couponBulkIssueService;
+  private final CouponRepository couponRepository;
 
   private static final long BATCH_SIZE = 100L;
 
   @Value("${coupon.issue.max-retry-count:3}")
   private int maxRetryCount;
 
+  // 꺼낸 요청을 DB에 반영할 때까지의 임대 시간. 발급 락 임대 시간보다 길게 둬서 처리 중인 요청을 회수하지 않게 한다
+  @Value("${coupon.issue.in-flight-lease-seconds:120}")
+  private long inFlightLeaseSeconds;
+
+  /**
+   * 쿠폰 락을 기다리지 않고 잡은 경우에만 처리한다. 다른 노드가 처리 중이면 {@link LockAcquisitionException}이 발생한다.
+   * 여러 배치 노드가 쿠폰 단위로 작업을 나눠 가질 때 사용한다.
+   */
+  @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 0L, leaseTime = 60L)
+  public void tryProcessCouponIssueQueue(Long couponId) {
+    processCouponIssueQueue(couponId);
+  }
+
   public void processCouponIssueQueue(Long couponId) {
+    recoverExpiredRequests(couponId);
+
     processCouponQueue(couponId);
 
     processRetryQueue(couponId);
 
     couponQueueService.moveToDeadLetterQueue(couponId, maxRetryCount);
+
+    if (couponQueueService.resignalIfQueued(couponId)) {
+      log.info("신호 없이 남은 대기열을 소비자에게 다시 알림 - couponId: {}", couponId);
+    }
+
+    if (couponQueueService.deactivateIfIdle(couponId)) {
+      log.debug("처리할 요청이 없어 활성 쿠폰에서 제외 - couponId: {}", couponId);
+    }
   }
 
   @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 5L, leaseTime = 30L)
   public ProcessResult processCouponQueue(Long couponId) {
+    return drainCouponQueue(couponId, BATCH_SIZE);
+  }
+
+  /**
+   * 대기열에서 최대 batchSize개를 꺼내 발급한다. 소비자가 밀린 양에 맞춰 배치 크기를 정할 때 사용한다.
+   */
+  @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 5L, leaseTime = 30L)
+  public ProcessResult processCouponQueue(Long couponId, long batchSize) {
+    return drainCouponQueue(couponId, batchSize);
+  }
+
+  private ProcessResult drainCouponQueue(Long couponId, long batchSize) {
     long queueSize = couponQueueService.getQueueSize(couponId);
 
     if (queueSize == 0) {
@@ -42,53 +84,32 @@ public class CouponIssueBatchService {
 
     log.info("쿠폰 발급 큐 처리 시작 - couponId: {}, queueSize: {}", couponId, queueSize);
 
-    Set<ZSetOperations.TypedTuple<Object>> requests = couponQueueService.popOldestRequests(
-        couponId, BATCH_SIZE);
+    List<Long> userIds = couponQueueService.claimOldestRequests(
+        couponId, batchSize, Duration.ofSeconds(inFlightLeaseSeconds));
 
-    if (requests == null || requests.isEmpty()) {
+    if (userIds.isEmpty()) {
       return new ProcessResult(couponId, 0, 0);
     }
 
-    int successCount = 0;
-    int failCount = 0;
-    boolean stockExhausted = false;
-
-    for (ZSetOperations.TypedTuple<Object> request : requests) {
-      String member = null;
-      Long userId = null;
-
-      try {
-        member = (String) request.getValue();
-        if (member == null) {
-          continue;
-        }
-
-        userId = couponQueueService.extractUserId(member);
-        Long extractedCouponId = couponQueueService.extractCouponId(member);
-
-        Boolean issued = couponIssueService.issueCoupon(extractedCouponId, userId);
-
-        if (issued == null) {
-          stockExhausted = true;
-          log.warn("쿠폰 재고 소진 - couponId: {}, 배치 처리 중단", couponId);
-          break;
-        } else if (issued) {
-          successCount++;
-        } else {
-          failCount++;
-        }
-
-      } catch (Exception e) {
-        log.error("개별 쿠폰 발급 중 오류 - couponId: {}, userId: {}", couponId, userId, e);
-        failCount++;
+    CouponBulkIssueService.BulkIssueResult result;
+    try {
+      result = couponBulkIssueService.issueCoupons(couponId, userIds);
+    } catch (Exception e) {
+      log.error("쿠폰 일괄 발급 중 오류 - couponId: {}, 요청 수: {}", couponId, userIds.size(), e);
+      couponQueueService.addToRetryQueue(couponId, userIds, 0);
+      couponQueueService.acknowledgeRequests(couponId, userIds);
+      return new ProcessResult(couponId, 0, userIds.size());
+    }
 
-        if (userId != null) {
-          couponQueueService.addToRetryQueue(couponId, userId, 0);
-        }
-      }
+    int successCount = (int) result.count(CouponBulkIssueService.IssueOutcome.ISSUED);
+    int failCount = (int) result.count(CouponBulkIssueService.IssueOutcome.DUPLICATE);
+    if (failCount > 0) {
+      couponQueueService.returnStock(couponId, failCount);
     }
 
-    if (stockExhausted) {
+    if (result.soldOut()) {
+      log.warn("쿠폰 재고 소진 - couponId: {}, 배치 처리 중단", couponId);
+      couponQueueService.markSoldOut(couponId);
       couponQueueService.clearQueue(couponId);
       log.info("쿠폰 발급 재고 소진으로 큐 클리어 - couponId: {}, 성공: {}, 실패: {}",
           couponId, successCount, failCount);
@@ -97,9 +118,27 @@ public class CouponIssueBatchService {
           couponId, successCount, failCount);
     }
 
+    couponQueueService.acknowledgeRequests(couponId, userIds);
     return new ProcessResult(couponId, successCount, failCount);
   }
 
+  /**
+   * 꺼낸 뒤 DB 반영이나 재시도 큐 추가 전에 노드가 죽어 임대가 끝난 요청을 회수한다.
+   * 그 사이 커밋된 사용자는 예약이 정상 소진된 것이므로 표시만 지우고, 나머지는 재시도 큐로 돌려 다시 발급한다.
+   */
+  private void recoverExpiredRequests(Long couponId) {
+    List<Long> expiredUserIds = couponQueueService.getExpiredInFlightUserIds(couponId, BATCH_SIZE);
+    if (expiredUserIds.isEmpty()) {
+      return;
+    }
+
+    Set<Long> issuedUserIds = couponRepository.findIssuedUserIds(couponId, expiredUserIds);
+    List<Long> retryUserIds = expiredUserIds.stream()
+        .filter(userId -> !issuedUserIds.contains(userId))
+        .toList();
+    couponQueueService.recoverInFlightRequests(couponId, retryUserIds, issuedUserIds);
+  }
+
   @DistributedLock(lockKeyProvider = "prepareLockKey", waitTime = 5L, leaseTime = 30L)
   public ProcessResult processRetryQueue(Long couponId) {
     long retryQueueSize = couponQueueService.getRetryQueueSize(couponId);
@@ -121,6 +160,11 @@ public class CouponIssueBatchService {
     int failCount = 0;
     boolean stockExhausted = false;
 
+    // Redis 상태 전이는 루프가 끝난 뒤 종류별로 한 번씩 모아서 반영한다
+    List<Long> completedUserIds = new ArrayList<>();
+    List<Long> failedUserIds = new ArrayList<>();
+    int duplicateCount = 0;
+
     for (ZSetOperations.TypedTuple<Object> request : retryRequests) {
       String member = null;
       Long userId = null;
@@ -138,19 +182,21 @@ public class CouponIssueBatchService {
         userId = couponQueueService.extractUserId(member);
         Long extractedCouponId = couponQueueService.extractCouponId(member);
 
-        Boolean issued = couponIssueService.issueCoupon(extractedCouponId, userId);
+        CouponBulkIssueService.IssueOutcome outcome = couponIssueService.issueCoupon(extractedCouponId, userId);
 
-        if (issued == null) {
+        if (outcome == CouponBulkIssueService.IssueOutcome.SOLD_OUT) {
           stockExhausted = true;
           log.warn("쿠폰 재고 소진 - couponId: {}, 재시도 큐 처리 중단", couponId);
-          couponQueueService.removeFromRetryQueue(couponId, userId);
+          completedUserIds.add(userId);
           break;
-        } else if (issued) {
+        } else if (outcome == CouponBulkIssueService.IssueOutcome.ISSUED) {
           successCount++;
-          couponQueueService.removeFromRetryQueue(couponId, userId);
+          completedUserIds.add(userId);
         } else {
+          // 이미 발급받은 사용자는 발급 사용자 Set에 그대로 두고 이번 요청이 예약한 수량만 되돌린다
           failCount++;
-          couponQueueService.removeFromRetryQueue(couponId, userId);
+          duplicateCount++;
+          completedUserIds.add(userId);
         }
 
       } catch (Exception e) {
@@ -160,8 +206,7 @@ public class CouponIssueBatchService {
 
         if (userId != null) {
           int nextRetryCount = currentRetryCount + 1;
-          couponQueueService.removeFromRetryQueue(couponId, userId);
-          couponQueueService.addToRetryQueue(couponId, userId, nextRetryCount);
+          failedUserIds.add(userId);
 
           if (nextRetryCount >= maxRetryCount) {
             log.warn("최대 재시도 횟수 도달 - couponId: {}, userId: {}, retryCount: {}",
@@ -171,7 +216,15 @@ public class CouponIssueBatchService {
       }
     }
 
+    // 실패한 요청의 예약은 최대 재시도 횟수를 넘겨 DLQ로 옮길 때 해제된다
+    couponQueueService.removeFromRetryQueue(couponId, completedUserIds);
+    couponQueueService.requeueRetries(couponId, failedUserIds);
+    if (duplicateCount > 0) {
+      couponQueueService.returnStock(couponId, duplicateCount);
+    }
+
     if (stockExhausted) {
+      couponQueueService.markSoldOut(couponId);
       log.info("쿠폰 발급 재시도 큐 처리 완료 (재고 소진) - couponId: {}, 성공: {}, 실패: {}",
           couponId, successCount, failCount);
     } else {
@@ -186,6 +239,10 @@ public class CouponIssueBatchService {
     return RedisLockKeys.coupon(couponId);
   }
 
+  private String prepareLockKey(Long couponId, long batchSize) {
+    return RedisLockKeys.coupon(couponId);
+  }
+
   public record ProcessResult(
       Long couponId,
       int successCount,
@@ -1,5 +1,6 @@
 package com.phm.ecommerce.application.service;
 
+import com.phm.ecommerce.application.service.CouponBulkIssueService.IssueOutcome;
 import com.phm.ecommerce.domain.coupon.Coupon;
 import com.phm.ecommerce.domain.coupon.UserCoupon;
 import com.phm.ecommerce.infrastructure.repository.CouponRepository;
@@ -18,19 +19,23 @@ public class CouponIssueService {
   private final CouponRepository couponRepository;
   private final UserCouponRepository userCouponRepository;
 
+  /**
+   * 이미 발급된 사용자는 DUPLICATE, 재고가 없으면 SOLD_OUT을 반환한다.
+   * 그 밖의 오류는 호출자가 재시도할 수 있도록 그대로 던진다.
+   */
   @Transactional
-  public Boolean issueCoupon(Long couponId, Long userId) {
+  public IssueOutcome issueCoupon(Long couponId, Long userId) {
     try {
       boolean alreadyIssued = userCouponRepository.existsByUserIdAndCouponId(userId, couponId);
       if (alreadyIssued) {
         log.debug("이미 발급된 쿠폰 - userId: {}, couponId: {}", userId, couponId);
-        return false;
+        return IssueOutcome.DUPLICATE;
       }
 
       Coupon coupon = couponRepository.findByIdOrThrow(couponId);
       if (!coupon.canIssue()) {
         log.warn("쿠폰 재고 소진 - couponId: {}, userId: {}", couponId, userId);
-        return null;
+        return IssueOutcome.SOLD_OUT;
       }
 
       coupon.issue();
@@ -42,14 +47,11 @@ public class CouponIssueService {
       log.info("쿠폰 발급 완료 - userId: {}, couponId: {}, userCouponId: {}",
           userId, couponId, userCoupon.getId());
 
-      return true;
+      return IssueOutcome.ISSUED;
 
     } catch (DataIntegrityViolationException e) {
       log.warn("쿠폰 발급 중복 시도 - userId: {}, couponId: {}", userId, couponId);
-      return false;
-    } catch (Exception e) {
-      log.error("쿠폰 발급 중 오류 - userId: {}, couponId: {}", userId, couponId, e);
-      return false;
+      return IssueOutcome.DUPLICATE;
     }
   }
 }
@@ -1,5 +1,6 @@
 package com.phm.ecommerce.config;
 
+import com.phm.ecommerce.domain.common.TimeOrderedIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -241,8 +242,8 @@ public class DataSeeder implements CommandLineRunner {
         log.info("Seeding {} user coupons...", TOTAL_USER_COUPONS);
         long start = System.currentTimeMillis();
 
-        String sql = "INSERT IGNORE INTO user_coupons (user_id, coupon_id, issued_at, used_at, expired_at, created_at, updated_at) " +
-                "VALUES (?, ?, ?, ?, ?, NOW(), NOW())";
+        String sql = "INSERT IGNORE INTO user_coupons (id, user_id, coupon_id, issued_at, used_at, expired_at, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, NOW(), NOW())";
 
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
 
@@ -273,15 +274,16 @@ public class DataSeeder implements CommandLineRunner {
                                 issuedAt.getTime() + random.nextLong(System.currentTimeMillis() - issuedAt.getTime()));
                     }
 
-                    ps.setLong(1, userId);
-                    ps.setLong(2, couponId);
-                    ps.setTimestamp(3, issuedAt);
+                    ps.setLong(1, TimeOrderedIdGenerator.nextId());
+                    ps.setLong(2, userId);
+                    ps.setLong(3, couponId);
+                    ps.setTimestamp(4, issuedAt);
                     if (usedAt != null) {
-                        ps.setTimestamp(4, usedAt);
+                        ps.setTimestamp(5, usedAt);
                     } else {
-                        ps.setNull(4, java.sql.Types.TIMESTAMP);
+                        ps.setNull(5, java.sql.Types.TIMESTAMP);
                     }
-                    ps.setTimestamp(5, expiredAt);
+                    ps.setTimestamp(6, expiredAt);
                 }
 
                 @Override
@@ -463,23 +465,24 @@ public class DataSeeder implements CommandLineRunner {
             }
 
             if (!allItems.isEmpty()) {
-                String itemSql = "INSERT INTO order_items (order_id, user_id, product_id, user_coupon_id, product_name, quantity, price, total_price, discount_amount, final_amount, created_at, updated_at) " +
-                        "VALUES (?, ?, ?, NULL, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
+                String itemSql = "INSERT INTO order_items (id, order_id, user_id, product_id, user_coupon_id, product_name, quantity, price, total_price, discount_amount, final_amount, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, NULL, ?, ?, ?, ?, ?, ?, NOW(), NOW())";
 
                 final List<OrderItemData> finalAllItems = allItems;
                 jdbcTemplate.batchUpdate(itemSql, new org.springframework.jdbc.core.BatchPreparedStatementSetter() {
                     @Override
                     public void setValues(PreparedStatement ps, int i) throws java.sql.SQLException {
                         OrderItemData item = finalAllItems.get(i);
-                        ps.setLong(1, item.orderId);
-                        ps.setLong(2, item.userId);
-                        ps.setLong(3, item.productId);
-                        ps.setString(4, item.productName);
-                        ps.setLong(5, item.quantity);
-                        ps.setLong(6, item.price);
-                        ps.setLong(7, item.totalPrice);
-                        ps.setLong(8, item.discountAmount);
-                        ps.setLong(9, item.finalAmount);
+                        ps.setLong(1, TimeOrderedIdGenerator.nextId());
+                        ps.setLong(2, item.orderId);
+                        ps.setLong(3, item.userId);
+                        ps.setLong(4, item.productId);
+                        ps.setString(5, item.productName);
+                        ps.setLong(6, item.quantity);
+                        ps.setLong(7, item.price);
+                        ps.setLong(8, item.totalPrice);
+                        ps.setLong(9, item.discountAmount);
+                        ps.setLong(10, item.finalAmount);
                     }
 
                     @Override
@@ -523,7 +526,7 @@ public class DataSeeder implements CommandLineRunner {
         // PointTransactions 배치 삽입
         log.info("Inserting {} point transactions...", pointTransactionBuffer.size());
 
-        String sql = "INSERT INTO point_transactions (point_id, order_id, amount, created_at) VALUES (?, ?, ?, ?)";
+        String sql = "INSERT INTO point_transactions (id, point_id, order_id, amount, created_at) VALUES (?, ?, ?, ?, ?)";
 
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
 
@@ -548,14 +551,15 @@ public class DataSeeder implements CommandLineRunner {
                     java.sql.Timestamp createdAt = new java.sql.Timestamp(
                             System.currentTimeMillis() - random.nextLong(90L * 24 * 60 * 60 * 1000));
 
-                    ps.setLong(1, pointId);
+                    ps.setLong(1, TimeOrderedIdGenerator.nextId());
+                    ps.setLong(2, pointId);
                     if (orderId > 0) {
-                        ps.setLong(2, orderId);
+                        ps.setLong(3, orderId);
                     } else {
-                        ps.setNull(2, java.sql.Types.BIGINT);
+                        ps.setNull(3, java.sql.Types.BIGINT);
                     }
-                    ps.setLong(3, amount);
-                    ps.setTimestamp(4, createdAt);
+                    ps.setLong(4, amount);
+                    ps.setTimestamp(5, createdAt);
                 }
 
                 @Override
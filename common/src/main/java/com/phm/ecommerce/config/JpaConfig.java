@@ -1,9 +1,31 @@
 package com.phm.ecommerce.config;
 
+import com.phm.ecommerce.infrastructure.outbox.OutboxProperties;
+import com.phm.ecommerce.infrastructure.repository.ProductStockProperties;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @Configuration
 @EnableJpaAuditing
+@EnableConfigurationProperties({ProductStockProperties.class, OutboxProperties.class})
 public class JpaConfig {
+
+  private static final int JDBC_BATCH_SIZE = 50;
+
+  /**
+   * 모듈마다 application.yml이 달라도 같은 배치 설정이 적용되도록 코드로 지정한다.
+   * 명시적으로 설정된 값이 있으면 그 값을 우선한다.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
 }
@@ -6,6 +6,9 @@ import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheInvalidationListener;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheProperties;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
 import com.phm.ecommerce.infrastructure.dlq.DLQProperties;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
@@ -19,11 +22,13 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
-@EnableConfigurationProperties(DLQProperties.class)
+@EnableConfigurationProperties({DLQProperties.class, ProductCacheProperties.class})
 public class RedisConfig {
 
   @Value("${spring.data.redis.host:localhost}")
@@ -98,4 +103,15 @@ public class RedisConfig {
     template.afterPropertiesSet();
     return template;
   }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory connectionFactory,
+      ProductCacheInvalidationListener productCacheInvalidationListener) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    container.addMessageListener(productCacheInvalidationListener,
+        new ChannelTopic(RedisCacheKeys.PRODUCT_CACHE_INVALIDATION_CHANNEL));
+    return container;
+  }
 }
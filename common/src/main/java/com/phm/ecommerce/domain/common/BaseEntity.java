@@ -2,29 +2,15 @@ package com.phm.ecommerce.domain.common;
 
 import jakarta.persistence.*;
 import lombok.Getter;
-import org.springframework.data.annotation.CreatedDate;
-import org.springframework.data.annotation.LastModifiedDate;
-import org.springframework.data.jpa.domain.support.AuditingEntityListener;
-
-import java.time.LocalDateTime;
-import java.util.Objects;
 
 @Getter
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
-public abstract class BaseEntity {
+public abstract class BaseEntity extends BaseTimeEntity {
 
   @Id
   @GeneratedValue(strategy = GenerationType.IDENTITY)
   protected Long id;
 
-  @CreatedDate
-  @Column(updatable = false)
-  protected LocalDateTime createdAt;
-
-  @LastModifiedDate
-  protected LocalDateTime updatedAt;
-
   protected BaseEntity() {
   }
 
@@ -35,17 +21,4 @@ public abstract class BaseEntity {
   protected void setId(Long id) {
     this.id = id;
   }
-
-  @Override
-  public boolean equals(Object o) {
-    if (this == o) return true;
-    if (o == null || getClass() != o.getClass()) return false;
-    BaseEntity that = (BaseEntity) o;
-    return Objects.equals(id, that.id);
-  }
-
-  @Override
-  public int hashCode() {
-    return Objects.hash(id);
-  }
 }
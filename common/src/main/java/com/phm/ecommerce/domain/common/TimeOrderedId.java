@@ -0,0 +1,17 @@
+package com.phm.ecommerce.domain.common;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link TimeOrderedIdGenerator}로 INSERT 전에 ID를 발급한다. IDENTITY와 달리 INSERT 배치를 막지 않는다.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
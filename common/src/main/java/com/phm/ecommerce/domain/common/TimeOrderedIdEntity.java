@@ -0,0 +1,29 @@
+package com.phm.ecommerce.domain.common;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 애플리케이션에서 ID를 미리 발급해 Hibernate가 INSERT를 JDBC 배치로 묶을 수 있는 엔티티.
+ * 주문 항목처럼 한 트랜잭션에서 여러 행이 쌓이는 테이블에 사용한다.
+ */
+@Getter
+@MappedSuperclass
+public abstract class TimeOrderedIdEntity extends BaseTimeEntity {
+
+  @Id
+  @TimeOrderedId
+  protected Long id;
+
+  protected TimeOrderedIdEntity() {
+  }
+
+  protected TimeOrderedIdEntity(Long id) {
+    this.id = id;
+  }
+
+  protected void setId(Long id) {
+    this.id = id;
+  }
+}
@@ -0,0 +1,88 @@
+package com.phm.ecommerce.domain.common;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * 시간순으로 증가하는 53비트 ID를 발급한다. JavaScript 숫자로도 정밀도 손실 없이 표현된다.
+ * [41비트 밀리초 타임스탬프][5비트 워커 번호][7비트 시퀀스]
+ * 워커 번호는 인스턴스마다 달라야 하며 기동 시 {@link #assignWorkerId(int)}로 지정한다.
+ * 임대한 번호라면 유효 기한을 함께 지정하고, 기한이 지나면 다른 인스턴스가 같은 번호를 쓸 수 있으므로 발급을 멈춘다.
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+  private static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+  private static final int WORKER_ID_BITS = 5;
+  private static final int SEQUENCE_BITS = 7;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+  public static final int MAX_WORKER_ID = (1 << WORKER_ID_BITS) - 1;
+
+  private static volatile long workerId = 0L;
+  // 워커 번호 임대의 유효 기한 (epoch 밀리초). 임대 없이 지정한 번호는 기한이 없다
+  private static volatile long workerIdValidUntilMillis = Long.MAX_VALUE;
+  private static long lastTimestamp = -1L;
+  private static long sequence = 0L;
+
+  public static void assignWorkerId(int id) {
+    assignWorkerId(id, Long.MAX_VALUE);
+  }
+
+  public static void assignWorkerId(int id, long validUntilMillis) {
+    if (id < 0 || id > MAX_WORKER_ID) {
+      throw new IllegalArgumentException("워커 번호는 0 ~ " + MAX_WORKER_ID + " 사이여야 합니다: " + id);
+    }
+    workerId = id;
+    workerIdValidUntilMillis = validUntilMillis;
+  }
+
+  /**
+   * 임대 연장이 확인된 경우 유효 기한을 늘린다.
+   */
+  public static void extendWorkerId(long validUntilMillis) {
+    workerIdValidUntilMillis = validUntilMillis;
+  }
+
+  /**
+   * 임대를 잃었을 때 새 번호를 받기 전까지 발급을 멈춘다.
+   */
+  public static void revokeWorkerId() {
+    workerIdValidUntilMillis = 0L;
+  }
+
+  public static synchronized long nextId() {
+    if (System.currentTimeMillis() >= workerIdValidUntilMillis) {
+      throw new IllegalStateException("ID 워커 번호 임대가 만료되어 ID를 발급할 수 없습니다. workerId: " + workerId);
+    }
+
+    // 시계가 뒤로 가더라도 마지막 타임스탬프를 이어 써서 ID가 감소하지 않게 한다
+    long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+    if (timestamp == lastTimestamp) {
+      sequence = (sequence + 1) & SEQUENCE_MASK;
+      if (sequence == 0) {
+        // 밀리초당 발급량을 넘으면 다음 밀리초를 미리 사용한다
+        timestamp++;
+      }
+    } else {
+      sequence = 0;
+    }
+    lastTimestamp = timestamp;
+
+    return (timestamp << (WORKER_ID_BITS + SEQUENCE_BITS)) | (workerId << SEQUENCE_BITS) | sequence;
+  }
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+    return nextId();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+}
@@ -0,0 +1,60 @@
+package com.phm.ecommerce.domain.outbox;
+
+import com.phm.ecommerce.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 트랜잭션과 함께 커밋되는 발행 대기 이벤트. 전달에 성공하면 삭제된다.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_next_attempt_at", columnList = "nextAttemptAt")
+})
+@Getter
+public class OutboxEvent extends BaseEntity {
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 50)
+  private OutboxEventType eventType;
+
+  @Column(nullable = false)
+  private Long aggregateId;
+
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  @Column(nullable = false)
+  private Integer attemptCount;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  protected OutboxEvent() {
+    super();
+  }
+
+  public OutboxEvent(Long id, OutboxEventType eventType, Long aggregateId, String payload,
+      Integer attemptCount, LocalDateTime nextAttemptAt) {
+    super(id);
+    this.eventType = eventType;
+    this.aggregateId = aggregateId;
+    this.payload = payload;
+    this.attemptCount = attemptCount;
+    this.nextAttemptAt = nextAttemptAt;
+  }
+
+  public static OutboxEvent create(OutboxEventType eventType, Long aggregateId, String payload) {
+    return new OutboxEvent(null, eventType, aggregateId, payload, 0, LocalDateTime.now());
+  }
+
+  /**
+   * 릴레이가 전달을 시작할 때 호출한다. 임대 기간 안에 완료되지 않으면 다른 릴레이가 다시 가져간다.
+   */
+  public void claim(LocalDateTime leaseUntil) {
+    this.attemptCount++;
+    this.nextAttemptAt = leaseUntil;
+  }
+}
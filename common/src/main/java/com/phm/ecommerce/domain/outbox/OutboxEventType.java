@@ -0,0 +1,5 @@
+package com.phm.ecommerce.domain.outbox;
+
+public enum OutboxEventType {
+  ORDER_CREATED
+}
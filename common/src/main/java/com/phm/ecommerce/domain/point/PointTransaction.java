@@ -1,5 +1,6 @@
 package com.phm.ecommerce.domain.point;
 
+import com.phm.ecommerce.domain.common.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.Getter;
 import org.springframework.data.annotation.CreatedDate;
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 public class PointTransaction {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @TimeOrderedId
   private Long id;
 
   @Column(nullable = false)
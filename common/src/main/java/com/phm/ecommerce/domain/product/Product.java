@@ -14,6 +14,9 @@ import lombok.extern.slf4j.Slf4j;
 @Getter
 public class Product extends BaseEntity {
 
+  public static final double VIEW_SCORE_WEIGHT = 0.1;
+  public static final double SALES_SCORE_WEIGHT = 0.9;
+
   @Column(nullable = false)
   private String name;
 
@@ -23,7 +26,8 @@ public class Product extends BaseEntity {
   @Column(nullable = false)
   private Long quantity;
 
-  @Column(nullable = false)
+  // 조회수는 배치가 증분 UPDATE로만 반영한다. 엔티티 저장 시 덮어쓰지 않도록 갱신 대상에서 제외
+  @Column(nullable = false, updatable = false)
   private Long viewCount;
 
   @Column(nullable = false)
@@ -80,6 +84,10 @@ public class Product extends BaseEntity {
   }
 
   public Double getPopularityScore() {
-    return (this.viewCount * 0.1) + (this.salesCount * 0.9);
+    return calculatePopularityScore(this.viewCount, this.salesCount);
+  }
+
+  public static double calculatePopularityScore(long viewCount, long salesCount) {
+    return (viewCount * VIEW_SCORE_WEIGHT) + (salesCount * SALES_SCORE_WEIGHT);
   }
 }
@@ -0,0 +1,28 @@
+package com.phm.ecommerce.domain.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * DB에 확정된 재고 예약 묶음. 재고 UPDATE와 같은 트랜잭션에 기록되므로 같은 묶음이 다시 확정되면 토큰 충돌로 건너뛴다.
+ */
+@Entity
+@Table(name = "stock_reservation_drains")
+@Getter
+public class StockReservationDrain {
+
+  @Id
+  @Column(length = 36)
+  private String token;
+
+  @Column(nullable = false)
+  private LocalDateTime confirmedAt;
+
+  protected StockReservationDrain() {
+  }
+}
@@ -0,0 +1,10 @@
+package com.phm.ecommerce.domain.product.event;
+
+import java.util.Map;
+
+public record ProductSoldEvent(
+    Long orderId,
+    Map<Long, Long> quantityByProductId
+) {
+
+}
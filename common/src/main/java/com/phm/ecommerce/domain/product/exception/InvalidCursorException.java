@@ -0,0 +1,14 @@
+package com.phm.ecommerce.domain.product.exception;
+
+import com.phm.ecommerce.domain.common.exception.BaseException;
+
+public class InvalidCursorException extends BaseException {
+
+  public InvalidCursorException() {
+    super(ProductErrorCode.INVALID_CURSOR);
+  }
+
+  public InvalidCursorException(String cursor) {
+    super(ProductErrorCode.INVALID_CURSOR, "유효하지 않은 커서입니다. cursor: " + cursor);
+  }
+}
@@ -0,0 +1,14 @@
+package com.phm.ecommerce.domain.product.exception;
+
+import com.phm.ecommerce.domain.common.exception.BaseException;
+
+public class InvalidRankingWindowException extends BaseException {
+
+  public InvalidRankingWindowException() {
+    super(ProductErrorCode.INVALID_RANKING_WINDOW);
+  }
+
+  public InvalidRankingWindowException(String window) {
+    super(ProductErrorCode.INVALID_RANKING_WINDOW, "지원하지 않는 랭킹 구간입니다. window: " + window);
+  }
+}
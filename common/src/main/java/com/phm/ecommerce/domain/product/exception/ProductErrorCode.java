@@ -11,6 +11,8 @@ public enum ProductErrorCode implements ErrorCode {
   PRODUCT_NOT_FOUND("PRODUCT_NOT_FOUND", "상품이 존재하지 않습니다", HttpStatus.NOT_FOUND),
   INSUFFICIENT_STOCK("INSUFFICIENT_STOCK", "재고가 부족합니다", HttpStatus.CONFLICT),
   INVALID_QUANTITY("INVALID_QUANTITY", "유효하지 않은 수량입니다", HttpStatus.BAD_REQUEST),
+  INVALID_CURSOR("INVALID_CURSOR", "유효하지 않은 커서입니다", HttpStatus.BAD_REQUEST),
+  INVALID_RANKING_WINDOW("INVALID_RANKING_WINDOW", "지원하지 않는 랭킹 구간입니다", HttpStatus.BAD_REQUEST),
   ;
 
   private final String code;
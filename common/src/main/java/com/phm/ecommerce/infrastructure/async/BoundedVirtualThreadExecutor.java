@@ -0,0 +1,74 @@
+package com.phm.ecommerce.infrastructure.async;
+
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 작업마다 가상 스레드를 만들고, 동시에 실행되는 작업 수만 세마포어로 제한한다.
+ * 허가를 기다리는 것은 작업의 가상 스레드이므로 제출한 스레드는 한도에 도달해도 막히지 않는다.
+ * (SimpleAsyncTaskExecutor의 concurrencyLimit은 제출한 스레드를 대기시킨다)
+ */
+public class BoundedVirtualThreadExecutor implements TaskExecutor {
+
+  private final String name;
+  private final int maxConcurrency;
+  private final Semaphore permits;
+  private final ThreadFactory threadFactory;
+
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+
+  public BoundedVirtualThreadExecutor(String name, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("동시 실행 한도는 1 이상이어야 합니다: " + maxConcurrency);
+    }
+    this.name = name;
+    this.maxConcurrency = maxConcurrency;
+    this.permits = new Semaphore(maxConcurrency);
+    this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    threadFactory.newThread(() -> runWithPermit(task)).start();
+  }
+
+  private void runWithPermit(Runnable task) {
+    waiting.incrementAndGet();
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    } finally {
+      waiting.decrementAndGet();
+    }
+
+    inFlight.incrementAndGet();
+    try {
+      task.run();
+    } finally {
+      inFlight.decrementAndGet();
+      permits.release();
+    }
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  public int getInFlightCount() {
+    return inFlight.get();
+  }
+
+  public int getWaitingCount() {
+    return waiting.get();
+  }
+}
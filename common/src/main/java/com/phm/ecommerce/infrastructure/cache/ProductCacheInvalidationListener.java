@@ -0,0 +1,29 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidationListener implements MessageListener {
+
+  private final ProductLocalCache productLocalCache;
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      Long productId = Long.valueOf(body);
+      productLocalCache.invalidate(productId);
+      log.debug("로컬 상품 캐시 무효화 수신: productId={}", productId);
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 상품 캐시 무효화 메시지: {}", body);
+    }
+  }
+}
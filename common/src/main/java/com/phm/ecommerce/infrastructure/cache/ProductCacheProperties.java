@@ -0,0 +1,35 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+  private final long localMaxSize;
+  private final long localTtlSeconds;
+  private final long negativeTtlSeconds;
+  private final double earlyRefreshBeta;
+  /**
+   * XFetch에 쓰는 재계산 비용의 하한. 측정된 로딩 시간은 수 ms에 불과해 그대로 쓰면 조기 갱신이 거의 일어나지 않는다.
+   */
+  private final long earlyRefreshMinDeltaMillis;
+  private final long loadWaitMillis;
+
+  public ProductCacheProperties(
+      @DefaultValue("10000") long localMaxSize,
+      @DefaultValue("30") long localTtlSeconds,
+      @DefaultValue("30") long negativeTtlSeconds,
+      @DefaultValue("1.0") double earlyRefreshBeta,
+      @DefaultValue("2000") long earlyRefreshMinDeltaMillis,
+      @DefaultValue("3000") long loadWaitMillis) {
+    this.localMaxSize = localMaxSize;
+    this.localTtlSeconds = localTtlSeconds;
+    this.negativeTtlSeconds = negativeTtlSeconds;
+    this.earlyRefreshBeta = earlyRefreshBeta;
+    this.earlyRefreshMinDeltaMillis = earlyRefreshMinDeltaMillis;
+    this.loadWaitMillis = loadWaitMillis;
+  }
+}
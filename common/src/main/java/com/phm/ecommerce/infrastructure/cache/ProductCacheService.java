@@ -1,17 +1,33 @@
 package com.phm.ecommerce.infrastructure.cache;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.phm.ecommerce.domain.product.Product;
 import com.phm.ecommerce.infrastructure.repository.ProductRepository;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,6 +37,16 @@ public class ProductCacheService {
 
   private final ProductRepository productRepository;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ProductLocalCache productLocalCache;
+  private final ProductCacheProperties productCacheProperties;
+
+  private final ConcurrentMap<Long, CompletableFuture<CachedProduct>> inFlightLoads =
+      new ConcurrentHashMap<>();
+
+  private final LongAdder redisHits = new LongAdder();
+  private final LongAdder redisMisses = new LongAdder();
+  private final LongAdder redisEvictions = new LongAdder();
 
   private static final Duration CACHE_TTL = Duration.ofMinutes(30);
 
@@ -29,59 +55,211 @@ public class ProductCacheService {
       return List.of();
     }
 
+    List<Long> distinctIds = productIds.stream().distinct().toList();
+
+    // L1: 인스턴스 로컬 캐시
+    Map<Long, CachedProduct> entries = new HashMap<>();
+    productLocalCache.getAllPresent(distinctIds).forEach((productId, entry) -> {
+      if (!shouldRefreshEarly(entry)) {
+        entries.put(productId, entry);
+      }
+    });
+    int localHitCount = entries.size();
+
+    // L2: Redis - 로컬 미스 전체를 MGET 한 번으로 조회
+    List<Long> localMisses = distinctIds.stream()
+        .filter(productId -> !entries.containsKey(productId))
+        .toList();
+
     List<Long> cacheMisses = new ArrayList<>();
-    List<ProductInfo> cachedProducts = new ArrayList<>();
+    if (!localMisses.isEmpty()) {
+      List<String> cacheKeys = localMisses.stream()
+          .map(RedisCacheKeys::productCache)
+          .toList();
+      List<Object> cachedValues = redisTemplate.opsForValue().multiGet(cacheKeys);
 
-    for (Long productId : productIds) {
-      String cacheKey = RedisCacheKeys.productCache(productId);
-      ProductInfo cached = (ProductInfo) redisTemplate.opsForValue().get(cacheKey);
+      for (int i = 0; i < localMisses.size(); i++) {
+        Long productId = localMisses.get(i);
+        Object cached = cachedValues != null ? cachedValues.get(i) : null;
 
-      if (cached != null) {
-        cachedProducts.add(cached);
-      } else {
-        cacheMisses.add(productId);
+        if (cached instanceof CachedProduct entry && !shouldRefreshEarly(entry)) {
+          redisHits.increment();
+          productLocalCache.put(productId, entry);
+          entries.put(productId, entry);
+        } else {
+          redisMisses.increment();
+          cacheMisses.add(productId);
+        }
       }
     }
 
-    log.debug("상품 조회 - 전체: {}, 캐시 히트: {}, 캐시 미스: {}",
-        productIds.size(), productIds.size() - cacheMisses.size(), cacheMisses.size());
+    log.debug("상품 조회 - 전체: {}, 로컬 히트: {}, Redis 히트: {}, 캐시 미스: {}",
+        distinctIds.size(), localHitCount,
+        localMisses.size() - cacheMisses.size(), cacheMisses.size());
 
-    List<ProductInfo> dbProducts = List.of();
     if (!cacheMisses.isEmpty()) {
-      log.debug("DB에서 상품 조회: {} 개", cacheMisses.size());
-      List<Product> products = productRepository.findAllByIds(cacheMisses);
+      entries.putAll(loadSingleFlight(cacheMisses));
+    }
+
+    // 요청 순서대로 정렬, 존재하지 않는 상품(네거티브 캐시)은 제외
+    return productIds.stream()
+        .map(entries::get)
+        .filter(Objects::nonNull)
+        .map(CachedProduct::product)
+        .filter(Objects::nonNull)
+        .toList();
+  }
 
-      dbProducts = products.stream()
-          .map(product -> {
-            ProductInfo info = toProductInfo(product);
+  /**
+   * 같은 상품에 대한 DB 로딩은 인스턴스당 하나만 수행하고, 나머지 요청은 그 결과를 기다린다.
+   */
+  private Map<Long, CachedProduct> loadSingleFlight(List<Long> productIds) {
+    Map<Long, CompletableFuture<CachedProduct>> owned = new HashMap<>();
+    Map<Long, CompletableFuture<CachedProduct>> waiting = new HashMap<>();
 
-            String cacheKey = RedisCacheKeys.productCache(product.getId());
-            redisTemplate.opsForValue().set(cacheKey, info, CACHE_TTL);
+    for (Long productId : productIds) {
+      CompletableFuture<CachedProduct> future = new CompletableFuture<>();
+      CompletableFuture<CachedProduct> existing = inFlightLoads.putIfAbsent(productId, future);
+      if (existing == null) {
+        owned.put(productId, future);
+      } else {
+        waiting.put(productId, existing);
+      }
+    }
 
-            return info;
-          })
-          .toList();
+    Map<Long, CachedProduct> result = new HashMap<>();
+    if (!owned.isEmpty()) {
+      try {
+        // 직전 로더가 방금 채운 값이 있으면 다시 로딩하지 않는다
+        Map<Long, CachedProduct> loaded = new HashMap<>();
+        productLocalCache.getAllPresent(owned.keySet()).forEach((productId, entry) -> {
+          if (!shouldRefreshEarly(entry)) {
+            loaded.put(productId, entry);
+          }
+        });
+        List<Long> toLoad = owned.keySet().stream()
+            .filter(productId -> !loaded.containsKey(productId))
+            .toList();
+        if (!toLoad.isEmpty()) {
+          loaded.putAll(loadFromDatabase(toLoad));
+        }
+        result.putAll(loaded);
+        owned.forEach((productId, future) -> future.complete(loaded.get(productId)));
+      } catch (RuntimeException e) {
+        owned.values().forEach(future -> future.completeExceptionally(e));
+        throw e;
+      } finally {
+        owned.forEach(inFlightLoads::remove);
+      }
     }
 
-    var allProducts = new ArrayList<>(cachedProducts);
-    allProducts.addAll(dbProducts);
+    List<Long> fallback = new ArrayList<>();
+    waiting.forEach((productId, future) -> {
+      try {
+        result.put(productId,
+            future.get(productCacheProperties.getLoadWaitMillis(), TimeUnit.MILLISECONDS));
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        fallback.add(productId);
+      } catch (ExecutionException | TimeoutException e) {
+        log.warn("상품 캐시 로딩 대기 실패 - productId: {}, 직접 조회로 전환", productId);
+        fallback.add(productId);
+      }
+    });
 
-    // 요청 순서대로 정렬
-    var productMap = allProducts.stream()
-        .collect(Collectors.toMap(ProductInfo::id, p -> p));
+    if (!fallback.isEmpty()) {
+      result.putAll(loadFromDatabase(fallback));
+    }
 
-    return productIds.stream()
-        .map(productMap::get)
-        .filter(Objects::nonNull)
-        .toList();
+    return result;
+  }
+
+  private Map<Long, CachedProduct> loadFromDatabase(Collection<Long> productIds) {
+    log.debug("DB에서 상품 조회: {} 개", productIds.size());
+    long startedAt = System.currentTimeMillis();
+    Map<Long, Product> products = productRepository.findAllByIds(new ArrayList<>(productIds)).stream()
+        .collect(Collectors.toMap(Product::getId, product -> product));
+
+    long now = System.currentTimeMillis();
+    long loadMillis = now - startedAt;
+    Map<Long, CachedProduct> loaded = new HashMap<>();
+    for (Long productId : productIds) {
+      Product product = products.get(productId);
+      CachedProduct entry = product != null
+          ? new CachedProduct(toProductInfo(product), now + CACHE_TTL.toMillis(), loadMillis)
+          : new CachedProduct(null, now + negativeTtl().toMillis(), loadMillis);
+      loaded.put(productId, entry);
+    }
+
+    writeToRedis(loaded);
+    loaded.forEach(productLocalCache::put);
+
+    return loaded;
+  }
+
+  /**
+   * XFetch: 만료가 가까울수록, 로딩 비용이 클수록 높은 확률로 만료 전에 미리 갱신한다.
+   * 로딩 비용은 측정값과 설정된 하한 중 큰 값을 쓴다. DB 일괄 조회는 수 ms라 측정값만으로는 갱신 구간이 거의 없다.
+   */
+  private boolean shouldRefreshEarly(CachedProduct entry) {
+    if (entry.product() == null) {
+      return false;
+    }
+    long delta = Math.max(entry.loadMillis(), productCacheProperties.getEarlyRefreshMinDeltaMillis());
+    double gap = delta * productCacheProperties.getEarlyRefreshBeta()
+        * -Math.log(ThreadLocalRandom.current().nextDouble());
+    return System.currentTimeMillis() + gap >= entry.expiresAtMillis();
+  }
+
+  private Duration negativeTtl() {
+    return Duration.ofSeconds(productCacheProperties.getNegativeTtlSeconds());
+  }
+
+  private void writeToRedis(Map<Long, CachedProduct> entries) {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    // MSET은 TTL을 지정할 수 없으므로 SET EX를 파이프라인으로 묶어 한 번에 전송
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        ValueOperations<String, Object> ops = (ValueOperations<String, Object>) operations.opsForValue();
+        entries.forEach((productId, entry) -> ops.set(RedisCacheKeys.productCache(productId), entry,
+            entry.product() != null ? CACHE_TTL : negativeTtl()));
+        return null;
+      }
+    });
   }
 
   public void evictProductCache(Long productId) {
     String cacheKey = RedisCacheKeys.productCache(productId);
     Boolean deleted = redisTemplate.delete(cacheKey);
+    if (Boolean.TRUE.equals(deleted)) {
+      redisEvictions.increment();
+    }
+
+    // L2 삭제 후 L1을 비워야 다른 인스턴스가 이전 값을 다시 채우지 않는다
+    productLocalCache.invalidate(productId);
+    stringRedisTemplate.convertAndSend(
+        RedisCacheKeys.PRODUCT_CACHE_INVALIDATION_CHANNEL, String.valueOf(productId));
     log.debug("상품 캐시 삭제: productId={}, deleted={}", productId, deleted);
   }
 
+  public CacheStatistics getStatistics() {
+    CacheStats localStats = productLocalCache.stats();
+    return new CacheStatistics(
+        localStats.hitCount(),
+        localStats.missCount(),
+        localStats.evictionCount(),
+        productLocalCache.size(),
+        redisHits.sum(),
+        redisMisses.sum(),
+        redisEvictions.sum()
+    );
+  }
+
   private ProductInfo toProductInfo(Product product) {
     return new ProductInfo(
         product.getId(),
@@ -106,4 +284,25 @@ public class ProductCacheService {
       LocalDateTime updatedAt
   ) {
   }
+
+  /**
+   * 캐시 저장 단위. product가 null이면 존재하지 않는 상품에 대한 네거티브 엔트리다.
+   */
+  public record CachedProduct(
+      ProductInfo product,
+      long expiresAtMillis,
+      long loadMillis
+  ) {
+  }
+
+  public record CacheStatistics(
+      long localHits,
+      long localMisses,
+      long localEvictions,
+      long localSize,
+      long redisHits,
+      long redisMisses,
+      long redisEvictions
+  ) {
+  }
 }
@@ -0,0 +1,49 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.phm.ecommerce.infrastructure.cache.ProductCacheService.CachedProduct;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 인스턴스 내부 L1 캐시. Redis(L2) 앞단에서 핫 상품 조회를 흡수한다.
+ * 인스턴스 간 정합성은 TTL과 Redis pub/sub 무효화 메시지로 맞춘다.
+ */
+@Component
+public class ProductLocalCache {
+
+  private final Cache<Long, CachedProduct> cache;
+
+  public ProductLocalCache(ProductCacheProperties properties) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getLocalMaxSize())
+        .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+        .recordStats()
+        .build();
+  }
+
+  public Map<Long, CachedProduct> getAllPresent(Collection<Long> productIds) {
+    return cache.getAllPresent(productIds);
+  }
+
+  public void put(Long productId, CachedProduct entry) {
+    cache.put(productId, entry);
+  }
+
+  public void invalidate(Long productId) {
+    cache.invalidate(productId);
+  }
+
+  public CacheStats stats() {
+    return cache.stats();
+  }
+
+  public long size() {
+    return cache.estimatedSize();
+  }
+}
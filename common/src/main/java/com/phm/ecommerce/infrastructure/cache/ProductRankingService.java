@@ -3,12 +3,25 @@ package com.phm.ecommerce.infrastructure.cache;
 import com.phm.ecommerce.domain.product.Product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -16,6 +29,40 @@ import java.util.Set;
 public class ProductRankingService {
 
   private final RedisTemplate<String, Object> redisTemplate;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private static final Duration WINDOW_CACHE_TTL = Duration.ofSeconds(60);
+  private static final Map<ChronoUnit, Duration> BUCKET_RETENTION = Map.of(
+      ChronoUnit.HOURS, Duration.ofHours(RankingWindow.LAST_24_HOURS.getBucketCount() + 1),
+      ChronoUnit.DAYS, Duration.ofDays(RankingWindow.LAST_7_DAYS.getBucketCount() + 1));
+
+  private static final int STAGING_CHUNK_SIZE = 1000;
+  private static final Duration STAGING_TTL = Duration.ofMinutes(10);
+
+  // RENAME은 원본 키의 TTL을 그대로 가져가므로 교체 직후 만료를 해제한다
+  private static final RedisScript<Long> PUBLISH_RANKING_SCRIPT = RedisScript.of("""
+      redis.call('RENAME', KEYS[1], KEYS[2])
+      redis.call('PERSIST', KEYS[2])
+      return 1
+      """, Long.class);
+
+  // KEYS[1]: 합산 결과 키, KEYS[2..]: 버킷 키 / ARGV[1]: 캐시 TTL, ARGV[2]: 조회 개수, ARGV[3..]: 버킷별 가중치
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static final RedisScript<List<String>> MERGE_WINDOW_SCRIPT = (RedisScript) RedisScript.of("""
+      if redis.call('EXISTS', KEYS[1]) == 0 then
+        local args = {'ZUNIONSTORE', KEYS[1], #KEYS - 1}
+        for i = 2, #KEYS do
+          table.insert(args, KEYS[i])
+        end
+        table.insert(args, 'WEIGHTS')
+        for i = 3, #ARGV do
+          table.insert(args, ARGV[i])
+        end
+        redis.call(unpack(args))
+        redis.call('EXPIRE', KEYS[1], ARGV[1])
+      end
+      return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+      """, List.class);
 
   public List<Long> getTopProductIds(int limit) {
     Set<Object> results = redisTemplate.opsForZSet()
@@ -34,24 +81,120 @@ public class ProductRankingService {
     return productIds;
   }
 
-  public void updateRanking(List<Product> products) {
-    if (products == null || products.isEmpty()) {
-      log.warn("ranking update 요청이 비어있음");
+  /**
+   * 구간에 속한 버킷을 최근 것부터 감쇠 가중치로 합산해 조회한다. 합산 결과는 짧게 캐시해 매 요청마다 ZUNIONSTORE를 반복하지 않는다.
+   */
+  public List<Long> getTopProductIds(int limit, RankingWindow window) {
+    if (!window.isBucketed()) {
+      return getTopProductIds(limit);
+    }
+
+    LocalDateTime now = LocalDateTime.now();
+    List<String> keys = new ArrayList<>();
+    keys.add(RedisCacheKeys.productRankingWindow(window.getCode(), window.getBucketUnit(), now));
+
+    List<String> args = new ArrayList<>();
+    args.add(String.valueOf(WINDOW_CACHE_TTL.toSeconds()));
+    args.add(String.valueOf(limit));
+    for (int i = 0; i < window.getBucketCount(); i++) {
+      keys.add(RedisCacheKeys.productRankingBucket(
+          window.getBucketUnit(), now.minus(i, window.getBucketUnit())));
+      args.add(String.valueOf(Math.pow(window.getDecayPerBucket(), i)));
+    }
+
+    // 랭킹 멤버는 숫자 그대로 직렬화되어 있으므로 문자열로 받아 파싱한다
+    List<String> results = stringRedisTemplate.execute(MERGE_WINDOW_SCRIPT, keys, args.toArray());
+    if (results == null || results.isEmpty()) {
+      log.info("{} 구간 랭킹 데이터 없음 - 빈 목록 반환", window.getCode());
+      return List.of();
+    }
+
+    List<Long> productIds = results.stream()
+        .map(Long::parseLong)
+        .toList();
+
+    log.info("{} 구간 인기 상품 Top {} 조회: productIds={}", window.getCode(), limit, productIds);
+    return productIds;
+  }
+
+  public void incrementViewScore(Long productId) {
+    incrementScores(Map.of(productId, Product.VIEW_SCORE_WEIGHT));
+  }
+
+  public void incrementSalesScore(Map<Long, Long> quantityByProductId) {
+    if (quantityByProductId.isEmpty()) {
+      return;
+    }
+
+    Map<Long, Double> deltaByProductId = new HashMap<>();
+    quantityByProductId.forEach((productId, quantity) ->
+        deltaByProductId.put(productId, quantity * Product.SALES_SCORE_WEIGHT));
+    incrementScores(deltaByProductId);
+
+    log.debug("판매량 랭킹 반영: {}", quantityByProductId);
+  }
+
+  /**
+   * 전체 랭킹과 현재 시간/일 버킷에 같은 점수를 더한다. 버킷은 가장 긴 조회 구간이 끝나면 만료된다.
+   */
+  private void incrementScores(Map<Long, Double> deltaByProductId) {
+    LocalDateTime now = LocalDateTime.now();
+
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+        deltaByProductId.forEach((productId, delta) ->
+            ops.opsForZSet().incrementScore(RedisCacheKeys.PRODUCT_RANKING, productId, delta));
+
+        BUCKET_RETENTION.forEach((unit, retention) -> {
+          String bucketKey = RedisCacheKeys.productRankingBucket(unit, now);
+          deltaByProductId.forEach((productId, delta) ->
+              ops.opsForZSet().incrementScore(bucketKey, productId, delta));
+          ops.expire(bucketKey, retention);
+        });
+        return null;
+      }
+    });
+  }
+
+  /**
+   * 랭킹 전체를 주어진 점수로 교체한다. 실시간 증분 반영이 누락된 부분을 보정하는 용도다.
+   * 임시 키에 새 랭킹을 모두 쌓은 뒤 RENAME으로 교체하므로 조회 측은 비어 있거나 일부만 채워진 랭킹을 보지 않는다.
+   */
+  public void updateRanking(Map<Long, Double> scoreByProductId) {
+    log.info("인기 상품 랭킹 업데이트 시작: {} 개 상품", scoreByProductId.size());
+
+    if (scoreByProductId.isEmpty()) {
+      redisTemplate.delete(RedisCacheKeys.PRODUCT_RANKING);
+      log.info("랭킹 대상 상품 없음 - 랭킹 삭제");
       return;
     }
 
-    log.info("인기 상품 랭킹 업데이트 시작: {} 개 상품", products.size());
+    String stagingKey = RedisCacheKeys.productRankingStaging(UUID.randomUUID().toString());
 
-    Long deletedCount = redisTemplate.delete(RedisCacheKeys.PRODUCT_RANKING) ? 1L : 0L;
-    log.debug("기존 랭킹 데이터 삭제 완료: {} 개 키 삭제", deletedCount);
+    List<TypedTuple<Object>> tuples = scoreByProductId.entrySet().stream()
+        .<TypedTuple<Object>>map(entry -> new DefaultTypedTuple<>(entry.getKey(), entry.getValue()))
+        .toList();
 
-    redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
-      for (Product product : products) {
-        redisTemplate.opsForZSet().add(RedisCacheKeys.PRODUCT_RANKING, product.getId(), product.getPopularityScore());
+    redisTemplate.executePipelined(new SessionCallback<Object>() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <K, V> Object execute(RedisOperations<K, V> operations) {
+        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+        for (int from = 0; from < tuples.size(); from += STAGING_CHUNK_SIZE) {
+          List<TypedTuple<Object>> chunk = tuples.subList(from, Math.min(from + STAGING_CHUNK_SIZE, tuples.size()));
+          ops.opsForZSet().add(stagingKey, new HashSet<>(chunk));
+        }
+        // 교체 전에 중단되면 임시 키가 남지 않도록 만료를 걸어 둔다
+        ops.expire(stagingKey, STAGING_TTL);
+        return null;
       }
-      return null;
     });
 
-    log.info("인기 상품 랭킹 업데이트 완료: {} 개 상품", products.size());
+    redisTemplate.execute(PUBLISH_RANKING_SCRIPT, List.of(stagingKey, RedisCacheKeys.PRODUCT_RANKING));
+
+    log.info("인기 상품 랭킹 업데이트 완료: {} 개 상품", scoreByProductId.size());
   }
 }
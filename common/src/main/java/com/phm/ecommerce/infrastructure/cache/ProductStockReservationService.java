@@ -0,0 +1,311 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 플래시 세일 상품의 재고 카운터를 Redis에 두고 Lua 스크립트로 원자적으로 예약한다.
+ * 예약은 주문이 커밋될 때까지 만료 시각을 가진 hold로 남고, 커밋되면 pending 해시로 옮겨져
+ * 배치가 products.quantity에 일괄 확정한다. 확정 중인 값은 processing 해시로 옮겨 두므로
+ * DB 재고와 비교할 때 hold, pending, processing을 모두 빼야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStockReservationService {
+
+  public static final long NOT_INITIALIZED = -2L;
+  public static final long INSUFFICIENT = -1L;
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  // 카운터가 없으면 -2, 재고가 부족하면 -1, 성공하면 hold를 남기고 남은 재고를 반환한다
+  private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+      local stock = redis.call('GET', KEYS[1])
+      if not stock then
+        return -2
+      end
+      local quantity = tonumber(ARGV[2])
+      if tonumber(stock) < quantity then
+        return -1
+      end
+      redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1])
+      return redis.call('DECRBY', KEYS[1], quantity)
+      """, Long.class);
+
+  // 아직 남아 있는 hold만 pending으로 옮긴다. 이미 해제된 hold는 건너뛰므로 확정과 해제가 겹쳐도 한쪽만 반영된다
+  private static final RedisScript<Long> CONFIRM_SCRIPT = RedisScript.of("""
+      local confirmed = 0
+      for i = 1, #ARGV do
+        if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 then
+          local productId, quantity = string.match(ARGV[i], '^%d+:(%d+):(%d+)$')
+          redis.call('HINCRBY', KEYS[2], productId, quantity)
+          confirmed = confirmed + 1
+        end
+        redis.call('HDEL', KEYS[3], string.match(ARGV[i], '^(%d+):'))
+      end
+      return confirmed
+      """, Long.class);
+
+  // 아직 남아 있는 hold만 카운터에 되돌린다. KEYS[3]부터는 ARGV 순서대로 각 hold의 재고 카운터다
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+      local released = 0
+      for i = 1, #ARGV do
+        if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 then
+          local quantity = string.match(ARGV[i], '^%d+:%d+:(%d+)$')
+          if redis.call('EXISTS', KEYS[i + 2]) == 1 then
+            redis.call('INCRBY', KEYS[i + 2], quantity)
+          end
+          released = released + 1
+        end
+        redis.call('HDEL', KEYS[2], string.match(ARGV[i], '^(%d+):'))
+      end
+      return released
+      """, Long.class);
+
+  // DB 재고에서 아직 확정되지 않은 예약분을 뺀 값이 Redis 카운터의 기대값이다
+  private static final String EXPECTED_STOCK = """
+      local unconfirmed = (tonumber(redis.call('HGET', KEYS[2], ARGV[1])) or 0)
+          + (tonumber(redis.call('HGET', KEYS[3], ARGV[1])) or 0)
+      for _, member in ipairs(redis.call('ZRANGE', KEYS[4], 0, -1)) do
+        local productId, quantity = string.match(member, '^%d+:(%d+):(%d+)$')
+        if productId == ARGV[1] then
+          unconfirmed = unconfirmed + tonumber(quantity)
+        end
+      end
+      local expected = tonumber(ARGV[2]) - unconfirmed
+      """;
+
+  private static final RedisScript<Long> INITIALIZE_SCRIPT = RedisScript.of(EXPECTED_STOCK + """
+      if redis.call('SET', KEYS[1], expected, 'NX') then
+        return expected
+      end
+      return tonumber(redis.call('GET', KEYS[1]))
+      """, Long.class);
+
+  // 카운터가 없는 상품은 아직 예약이 시작되지 않았으므로 건드리지 않고, 차이가 있으면 기대값으로 덮어쓴 뒤 차이를 반환한다
+  private static final RedisScript<Long> RECONCILE_SCRIPT = RedisScript.of(EXPECTED_STOCK + """
+      local current = redis.call('GET', KEYS[1])
+      if not current then
+        return 0
+      end
+      local drift = tonumber(current) - expected
+      if drift ~= 0 then
+        redis.call('SET', KEYS[1], expected)
+      end
+      return drift
+      """, Long.class);
+
+  // 새로 옮긴 묶음에는 새 토큰을 붙이고, 이전 묶음이 남아 있으면 그 토큰을 그대로 돌려준다. 결과는 {토큰, 상품ID, 수량, ...}
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[2]) == 0 then
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+          return {}
+        end
+        redis.call('RENAME', KEYS[1], KEYS[2])
+        redis.call('SET', KEYS[3], ARGV[1])
+      else
+        redis.call('SET', KEYS[3], ARGV[1], 'NX')
+      end
+      local result = {redis.call('GET', KEYS[3])}
+      for _, value in ipairs(redis.call('HGETALL', KEYS[2])) do
+        table.insert(result, value)
+      end
+      return result
+      """, List.class);
+
+  // 다른 실행이 이미 정리하고 새 묶음을 옮겼다면 지우지 않는다
+  private static final RedisScript<Long> COMPLETE_DRAIN_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[2]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1], KEYS[2])
+      end
+      return 0
+      """, Long.class);
+
+  /**
+   * 재고를 예약하고 남은 재고를 반환한다. 예약은 holdTtl 동안 hold로 남으며
+   * 그 사이 {@link #confirm(List)} 또는 {@link #release(List)}로 정리되지 않으면 배치가 주문 커밋 여부를 보고 정리한다.
+   * 카운터가 없으면 {@link #NOT_INITIALIZED}, 재고가 부족하면 {@link #INSUFFICIENT}를 반환한다.
+   */
+  public long reserve(StockHold hold, Duration holdTtl) {
+    long expiresAt = System.currentTimeMillis() + holdTtl.toMillis();
+    Long result = stringRedisTemplate.execute(RESERVE_SCRIPT,
+        List.of(RedisCacheKeys.productStock(hold.productId()), RedisCacheKeys.PRODUCT_STOCK_HOLDS),
+        hold.member(), String.valueOf(hold.quantity()), String.valueOf(expiresAt));
+    return result != null ? result : NOT_INITIALIZED;
+  }
+
+  /**
+   * 현재 Redis 카운터에 남은 재고를 반환한다. 카운터가 없으면 {@link #NOT_INITIALIZED}를 반환한다.
+   */
+  public long getStock(Long productId) {
+    String stock = stringRedisTemplate.opsForValue().get(RedisCacheKeys.productStock(productId));
+    return stock != null ? Long.parseLong(stock) : NOT_INITIALIZED;
+  }
+
+  /**
+   * hold를 주문에 연결한다. 커밋 직후 확정이 유실되더라도 배치가 주문 존재 여부로 확정할 수 있다.
+   */
+  public void bindOrder(List<StockHold> holds, Long orderId) {
+    if (holds.isEmpty()) {
+      return;
+    }
+    Map<String, String> bindings = new HashMap<>();
+    holds.forEach(hold -> bindings.put(String.valueOf(hold.holdId()), String.valueOf(orderId)));
+    stringRedisTemplate.opsForHash().putAll(RedisCacheKeys.PRODUCT_STOCK_HOLD_ORDERS, bindings);
+  }
+
+  /**
+   * 커밋된 주문의 hold를 pending으로 옮기고 실제로 옮긴 hold 수를 반환한다.
+   */
+  public long confirm(List<StockHold> holds) {
+    if (holds.isEmpty()) {
+      return 0L;
+    }
+    Long confirmed = stringRedisTemplate.execute(CONFIRM_SCRIPT,
+        List.of(RedisCacheKeys.PRODUCT_STOCK_HOLDS, RedisCacheKeys.PRODUCT_STOCK_PENDING,
+            RedisCacheKeys.PRODUCT_STOCK_HOLD_ORDERS),
+        holds.stream().map(StockHold::member).toArray());
+    log.debug("재고 예약 확정 대기 등록 - hold: {} 개, 반영: {} 개", holds.size(), confirmed);
+    return confirmed != null ? confirmed : 0L;
+  }
+
+  /**
+   * 커밋되지 않은 주문의 hold를 카운터에 되돌리고 실제로 되돌린 hold 수를 반환한다.
+   * 이미 확정된 hold는 건드리지 않는다.
+   */
+  public long release(List<StockHold> holds) {
+    if (holds.isEmpty()) {
+      return 0L;
+    }
+    List<String> keys = new ArrayList<>();
+    keys.add(RedisCacheKeys.PRODUCT_STOCK_HOLDS);
+    keys.add(RedisCacheKeys.PRODUCT_STOCK_HOLD_ORDERS);
+    holds.forEach(hold -> keys.add(RedisCacheKeys.productStock(hold.productId())));
+
+    Long released = stringRedisTemplate.execute(RELEASE_SCRIPT, keys,
+        holds.stream().map(StockHold::member).toArray());
+    log.debug("재고 예약 해제 - hold: {} 개, 반영: {} 개", holds.size(), released);
+    return released != null ? released : 0L;
+  }
+
+  /**
+   * 만료 시각이 지난 hold를 최대 limit개 조회한다. 주문에 연결되지 않은 hold는 orderId가 null이다.
+   */
+  public List<ExpiredHold> findExpiredHolds(long nowMillis, int limit) {
+    Set<String> members = stringRedisTemplate.opsForZSet()
+        .rangeByScore(RedisCacheKeys.PRODUCT_STOCK_HOLDS, 0, nowMillis, 0, limit);
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
+
+    List<StockHold> holds = members.stream().map(StockHold::parse).toList();
+    List<Object> orderIds = stringRedisTemplate.<Object, Object>opsForHash().multiGet(
+        RedisCacheKeys.PRODUCT_STOCK_HOLD_ORDERS,
+        holds.stream().<Object>map(hold -> String.valueOf(hold.holdId())).toList());
+
+    List<ExpiredHold> expired = new ArrayList<>();
+    for (int i = 0; i < holds.size(); i++) {
+      Object orderId = orderIds.get(i);
+      expired.add(new ExpiredHold(holds.get(i), orderId != null ? Long.valueOf(orderId.toString()) : null));
+    }
+    return expired;
+  }
+
+  /**
+   * DB 재고를 기준으로 카운터를 만든다. 이미 다른 요청이 만들었다면 기존 값을 유지한다.
+   */
+  public long initialize(Long productId, Long databaseQuantity) {
+    Long stock = stringRedisTemplate.execute(INITIALIZE_SCRIPT, stockKeys(productId),
+        String.valueOf(productId), String.valueOf(databaseQuantity));
+    log.info("Redis 재고 카운터 초기화 - productId: {}, stock: {}", productId, stock);
+    return stock != null ? stock : 0L;
+  }
+
+  /**
+   * Redis 카운터를 DB 재고 기준으로 보정하고, 보정 전 카운터가 기대값보다 얼마나 많았는지 반환한다.
+   */
+  public long reconcile(Long productId, Long databaseQuantity) {
+    Long drift = stringRedisTemplate.execute(RECONCILE_SCRIPT, stockKeys(productId),
+        String.valueOf(productId), String.valueOf(databaseQuantity));
+    return drift != null ? drift : 0L;
+  }
+
+  /**
+   * 확정되지 않은 예약을 processing 해시로 옮기고 그 내용을 묶음 토큰과 함께 반환한다.
+   * 이전 실행이 정리하지 못한 묶음이 있으면 같은 토큰으로 다시 반환하므로, DB 반영은 토큰으로 중복을 걸러야 한다.
+   * DB 반영이 끝나면 {@link #completeDrain(String)}을 호출해야 한다.
+   */
+  @SuppressWarnings("unchecked")
+  public DrainedReservations drainPendingReservations() {
+    List<Object> entries = stringRedisTemplate.execute(DRAIN_SCRIPT,
+        List.of(RedisCacheKeys.PRODUCT_STOCK_PENDING, RedisCacheKeys.PRODUCT_STOCK_PROCESSING,
+            RedisCacheKeys.PRODUCT_STOCK_PROCESSING_TOKEN),
+        UUID.randomUUID().toString());
+
+    if (entries == null || entries.isEmpty()) {
+      return new DrainedReservations(null, Map.of());
+    }
+
+    Map<Long, Long> reservations = new HashMap<>();
+    for (int i = 1; i + 1 < entries.size(); i += 2) {
+      long quantity = Long.parseLong(entries.get(i + 1).toString());
+      if (quantity != 0) {
+        reservations.put(Long.valueOf(entries.get(i).toString()), quantity);
+      }
+    }
+
+    log.debug("재고 예약 확정 대상 확보: {} 개 상품", reservations.size());
+    return new DrainedReservations(entries.get(0).toString(), reservations);
+  }
+
+  public void completeDrain(String token) {
+    stringRedisTemplate.execute(COMPLETE_DRAIN_SCRIPT,
+        List.of(RedisCacheKeys.PRODUCT_STOCK_PROCESSING, RedisCacheKeys.PRODUCT_STOCK_PROCESSING_TOKEN), token);
+  }
+
+  private List<String> stockKeys(Long productId) {
+    return List.of(
+        RedisCacheKeys.productStock(productId),
+        RedisCacheKeys.PRODUCT_STOCK_PENDING,
+        RedisCacheKeys.PRODUCT_STOCK_PROCESSING,
+        RedisCacheKeys.PRODUCT_STOCK_HOLDS);
+  }
+
+  /**
+   * 주문 커밋 전까지 유지되는 재고 예약. holdId는 예약마다 고유하며 Redis에는 "holdId:productId:quantity"로 저장된다.
+   */
+  public record StockHold(long holdId, Long productId, long quantity) {
+
+    String member() {
+      return holdId + ":" + productId + ":" + quantity;
+    }
+
+    static StockHold parse(String member) {
+      String[] parts = member.split(":");
+      return new StockHold(Long.parseLong(parts[0]), Long.valueOf(parts[1]), Long.parseLong(parts[2]));
+    }
+  }
+
+  public record ExpiredHold(StockHold hold, Long orderId) {
+  }
+
+  public record DrainedReservations(String token, Map<Long, Long> quantities) {
+
+    public boolean isEmpty() {
+      return quantities.isEmpty();
+    }
+  }
+}
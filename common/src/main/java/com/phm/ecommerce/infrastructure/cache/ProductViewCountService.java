@@ -0,0 +1,111 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품 조회수를 Redis 해시에 누적하고, 배치가 주기적으로 products.view_count에 일괄 반영한다.
+ * 배치가 반영 중인 값은 processing 해시로 옮겨 두므로 조회 시 두 해시를 합산해야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductViewCountService {
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private static final RedisScript<Long> INCREMENT_SCRIPT = RedisScript.of("""
+      local pending = redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+      local processing = tonumber(redis.call('HGET', KEYS[2], ARGV[1])) or 0
+      return pending + processing
+      """, Long.class);
+
+  // 이전 반영이 끝나지 않았다면 processing 해시를 그대로 다시 반환한다
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[2]) == 0 then
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+          return {}
+        end
+        redis.call('RENAME', KEYS[1], KEYS[2])
+      end
+      return redis.call('HGETALL', KEYS[2])
+      """, List.class);
+
+  /**
+   * 조회수를 1 증가시키고 아직 DB에 반영되지 않은 조회수를 반환한다.
+   */
+  public long increment(Long productId) {
+    Long unflushed = stringRedisTemplate.execute(INCREMENT_SCRIPT,
+        List.of(RedisCacheKeys.PRODUCT_VIEW_PENDING, RedisCacheKeys.PRODUCT_VIEW_PROCESSING),
+        String.valueOf(productId));
+    return unflushed != null ? unflushed : 0L;
+  }
+
+  public Map<Long, Long> getUnflushedCounts(Collection<Long> productIds) {
+    if (productIds.isEmpty()) {
+      return Map.of();
+    }
+
+    List<Object> fields = new ArrayList<>();
+    productIds.forEach(productId -> fields.add(String.valueOf(productId)));
+
+    List<Object> pending = stringRedisTemplate.opsForHash()
+        .multiGet(RedisCacheKeys.PRODUCT_VIEW_PENDING, fields);
+    List<Object> processing = stringRedisTemplate.opsForHash()
+        .multiGet(RedisCacheKeys.PRODUCT_VIEW_PROCESSING, fields);
+
+    Map<Long, Long> counts = new HashMap<>();
+    int index = 0;
+    for (Long productId : productIds) {
+      long count = toLong(pending.get(index)) + toLong(processing.get(index));
+      if (count > 0) {
+        counts.put(productId, count);
+      }
+      index++;
+    }
+    return counts;
+  }
+
+  /**
+   * 누적된 조회수를 processing 해시로 옮기고 그 내용을 반환한다.
+   * DB 반영이 끝나면 {@link #completeDrain()}을 호출해야 한다.
+   */
+  @SuppressWarnings("unchecked")
+  public Map<Long, Long> drainPendingCounts() {
+    List<Object> entries = stringRedisTemplate.execute(DRAIN_SCRIPT,
+        List.of(RedisCacheKeys.PRODUCT_VIEW_PENDING, RedisCacheKeys.PRODUCT_VIEW_PROCESSING));
+
+    Map<Long, Long> counts = new HashMap<>();
+    if (entries == null) {
+      return counts;
+    }
+
+    for (int i = 0; i + 1 < entries.size(); i += 2) {
+      long count = toLong(entries.get(i + 1));
+      if (count > 0) {
+        counts.put(Long.valueOf(entries.get(i).toString()), count);
+      }
+    }
+
+    log.debug("조회수 반영 대상 확보: {} 개 상품", counts.size());
+    return counts;
+  }
+
+  public void completeDrain() {
+    stringRedisTemplate.delete(RedisCacheKeys.PRODUCT_VIEW_PROCESSING);
+  }
+
+  private long toLong(Object value) {
+    return value != null ? Long.parseLong(value.toString()) : 0L;
+  }
+}
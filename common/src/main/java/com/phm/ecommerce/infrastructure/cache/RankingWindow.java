@@ -0,0 +1,40 @@
+package com.phm.ecommerce.infrastructure.cache;
+
+import com.phm.ecommerce.domain.product.exception.InvalidRankingWindowException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 인기 상품 랭킹 조회 구간. 시간/일 단위 버킷을 감쇠 가중치로 합산해 최근 활동에 더 큰 비중을 둔다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RankingWindow {
+  ALL("all", null, 0, 1.0),
+  LAST_24_HOURS("24h", ChronoUnit.HOURS, 24, 0.95),
+  LAST_7_DAYS("7d", ChronoUnit.DAYS, 7, 0.8),
+  ;
+
+  private final String code;
+  private final ChronoUnit bucketUnit;
+  private final int bucketCount;
+  private final double decayPerBucket;
+
+  public boolean isBucketed() {
+    return bucketUnit != null;
+  }
+
+  public static RankingWindow from(String code) {
+    if (code == null || code.isBlank()) {
+      return ALL;
+    }
+    for (RankingWindow window : values()) {
+      if (window.code.equalsIgnoreCase(code)) {
+        return window;
+      }
+    }
+    throw new InvalidRankingWindowException(code);
+  }
+}
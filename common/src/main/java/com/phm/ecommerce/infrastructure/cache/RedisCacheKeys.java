@@ -3,21 +3,71 @@ package com.phm.ecommerce.infrastructure.cache;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RedisCacheKeys {
 
   private static final String PRODUCT_PREFIX = "product:";
+  private static final String PRODUCT_RANKING_PREFIX = "product:ranking:";
   private static final String COUPON_QUEUE_PREFIX = "coupon:queue:";
   private static final String COUPON_QUEUE_SEQUENCE_PREFIX = "coupon:queue:sequence:";
   private static final String COUPON_RETRY_QUEUE_PREFIX = "coupon:retry:queue:";
   private static final String COUPON_DLQ_PREFIX = "coupon:dlq:";
+  private static final String COUPON_STOCK_PREFIX = "coupon:stock:";
+  private static final String COUPON_ISSUED_PREFIX = "coupon:issued:";
+  private static final String COUPON_IN_FLIGHT_PREFIX = "coupon:inflight:";
+  private static final String COUPON_SOLD_OUT_PREFIX = "coupon:soldout:";
+
+  private static final DateTimeFormatter HOUR_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+  private static final DateTimeFormatter DAY_BUCKET_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
 
   public static final String PRODUCT_RANKING = "product:ranking:total";
+  public static final String PRODUCT_CACHE_INVALIDATION_CHANNEL = "product:cache:invalidation";
+  public static final String PRODUCT_VIEW_PENDING = "product:view:pending";
+  public static final String PRODUCT_VIEW_PROCESSING = "product:view:processing";
+  public static final String PRODUCT_STOCK_PENDING = "product:stock:pending";
+  public static final String PRODUCT_STOCK_PROCESSING = "product:stock:processing";
+  public static final String PRODUCT_STOCK_PROCESSING_TOKEN = "product:stock:processing:token";
+  public static final String PRODUCT_STOCK_HOLDS = "product:stock:holds";
+  public static final String PRODUCT_STOCK_HOLD_ORDERS = "product:stock:hold-orders";
+  public static final String COUPON_QUEUE_SIGNAL = "coupon:signal";
+  public static final String COUPON_ACTIVE = "coupon:active";
+  public static final String COUPON_ACTIVE_BACKFILLED = "coupon:active:backfilled";
+  public static final String COUPON_QUEUE_PATTERN = COUPON_QUEUE_PREFIX + "*";
+  public static final String COUPON_RETRY_QUEUE_PATTERN = COUPON_RETRY_QUEUE_PREFIX + "*";
+  public static final String COUPON_IN_FLIGHT_PATTERN = COUPON_IN_FLIGHT_PREFIX + "*";
 
   public static String productCache(Long productId) {
     return PRODUCT_PREFIX + productId;
   }
 
+  public static String idWorker(int workerId) {
+    return "id:worker:" + workerId;
+  }
+
+  public static String productStock(Long productId) {
+    return PRODUCT_PREFIX + "stock:" + productId;
+  }
+
+  public static String productRankingStaging(String token) {
+    return PRODUCT_RANKING + ":staging:" + token;
+  }
+
+  public static String productRankingBucket(ChronoUnit unit, LocalDateTime time) {
+    return PRODUCT_RANKING_PREFIX + unit.name().toLowerCase() + ":" + bucketLabel(unit, time);
+  }
+
+  public static String productRankingWindow(String window, ChronoUnit unit, LocalDateTime time) {
+    return PRODUCT_RANKING_PREFIX + "window:" + window + ":" + bucketLabel(unit, time);
+  }
+
+  private static String bucketLabel(ChronoUnit unit, LocalDateTime time) {
+    return unit == ChronoUnit.HOURS ? time.format(HOUR_BUCKET_FORMAT) : time.format(DAY_BUCKET_FORMAT);
+  }
+
   public static String couponQueue(Long couponId) {
     return COUPON_QUEUE_PREFIX + couponId;
   }
@@ -26,10 +76,26 @@ public final class RedisCacheKeys {
     return COUPON_QUEUE_SEQUENCE_PREFIX + couponId;
   }
 
+  public static String couponStock(Long couponId) {
+    return COUPON_STOCK_PREFIX + couponId;
+  }
+
+  public static String couponSoldOut(Long couponId) {
+    return COUPON_SOLD_OUT_PREFIX + couponId;
+  }
+
+  public static String couponIssuedUsers(Long couponId) {
+    return COUPON_ISSUED_PREFIX + couponId;
+  }
+
   public static String couponRetryQueue(Long couponId) {
     return COUPON_RETRY_QUEUE_PREFIX + couponId;
   }
 
+  public static String couponInFlight(Long couponId) {
+    return COUPON_IN_FLIGHT_PREFIX + couponId;
+  }
+
   public static String couponDeadLetterQueue(Long couponId) {
     return COUPON_DLQ_PREFIX + couponId;
   }
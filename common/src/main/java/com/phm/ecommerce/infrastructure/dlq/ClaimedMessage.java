@@ -0,0 +1,15 @@
+package com.phm.ecommerce.infrastructure.dlq;
+
+/**
+ * 워커가 가져간 DLQ 메시지. leaseToken은 가져갈 때 기록한 임대 만료 시각(처리 중 ZSET의 점수)이며,
+ * 결과 반영은 처리 중 ZSET에 같은 토큰이 남아 있을 때만 적용된다.
+ */
+public record ClaimedMessage(
+    DeadLetterMessage message,
+    long leaseToken
+) {
+
+  public String id() {
+    return message.id();
+  }
+}
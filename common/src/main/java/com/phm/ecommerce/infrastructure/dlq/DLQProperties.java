@@ -10,14 +10,35 @@ public class DLQProperties {
 
   private final int maxRetryCount;
   private final int retryIntervalMinutes;
-  private final int backoffMultiplier;
+  private final double backoffMultiplier;
+  /**
+   * 재시도 배치가 외부 시스템으로 동시에 보내는 최대 메시지 수.
+   */
+  private final int replayConcurrency;
+  private final int replayPageSize;
+  /**
+   * 한 번의 배치 실행이 메시지를 가져오는 최대 시간. Quartz 실행 주기를 넘기지 않도록 하며, 남은 메시지는 다음 실행이 이어서 처리한다.
+   */
+  private final int replayTimeBudgetSeconds;
+  /**
+   * 가져간 메시지를 다른 워커가 다시 가져갈 수 없는 시간. 이 시간 안에 처리 결과가 반영되지 않으면 다시 재시도 대상이 된다.
+   */
+  private final int claimLeaseSeconds;
 
   public DLQProperties(
       @DefaultValue("5") int maxRetryCount,
       @DefaultValue("1") int retryIntervalMinutes,
-      @DefaultValue("2") int backoffMultiplier) {
+      @DefaultValue("2") double backoffMultiplier,
+      @DefaultValue("20") int replayConcurrency,
+      @DefaultValue("200") int replayPageSize,
+      @DefaultValue("40") int replayTimeBudgetSeconds,
+      @DefaultValue("30") int claimLeaseSeconds) {
     this.maxRetryCount = maxRetryCount;
     this.retryIntervalMinutes = retryIntervalMinutes;
     this.backoffMultiplier = backoffMultiplier;
+    this.replayConcurrency = replayConcurrency;
+    this.replayPageSize = replayPageSize;
+    this.replayTimeBudgetSeconds = replayTimeBudgetSeconds;
+    this.claimLeaseSeconds = claimLeaseSeconds;
   }
 }
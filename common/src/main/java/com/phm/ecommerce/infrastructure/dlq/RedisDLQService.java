@@ -2,14 +2,18 @@ package com.phm.ecommerce.infrastructure.dlq;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -23,17 +27,83 @@ public class RedisDLQService {
 
   private static final String DLQ_SORTED_SET_KEY = "dlq:retry:queue";
   private static final String DLQ_HASH_KEY = "dlq:messages";
+  // 워커가 가져간 메시지. 점수는 임대 만료 시각
+  private static final String DLQ_IN_FLIGHT_KEY = "dlq:inflight";
+
+  // 재시도 순서(ZSET), 처리 중(ZSET), 본문(Hash)이 어긋나지 않도록 항상 함께 변경한다
+  private static final RedisScript<Long> UPSERT_SCRIPT = RedisScript.of("""
+      redis.call('ZREM', KEYS[3], ARGV[1])
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      return redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      """, Long.class);
+
+  private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+      local removed = redis.call('ZREM', KEYS[1], ARGV[1]) + redis.call('ZREM', KEYS[3], ARGV[1])
+      return removed + redis.call('HDEL', KEYS[2], ARGV[1])
+      """, Long.class);
+
+  /**
+   * 가져간 워커의 임대가 아직 유효할 때만(처리 중 ZSET 점수가 토큰과 같을 때) 메시지를 제거한다.
+   * KEYS: 처리 중 ZSET, 본문 Hash / ARGV: 메시지 ID, 임대 토큰
+   */
+  private static final RedisScript<Long> CLAIMED_REMOVE_SCRIPT = RedisScript.of("""
+      local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+      if not score or tonumber(score) ~= tonumber(ARGV[2]) then
+        return 0
+      end
+      redis.call('ZREM', KEYS[1], ARGV[1])
+      redis.call('HDEL', KEYS[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  /**
+   * 가져간 워커의 임대가 아직 유효할 때만 메시지를 다시 재시도 ZSET에 예약한다.
+   * KEYS: 재시도 ZSET, 본문 Hash, 처리 중 ZSET / ARGV: 메시지 ID, 재시도 시각, 본문, 임대 토큰
+   */
+  private static final RedisScript<Long> CLAIMED_RESCHEDULE_SCRIPT = RedisScript.of("""
+      local score = redis.call('ZSCORE', KEYS[3], ARGV[1])
+      if not score or tonumber(score) ~= tonumber(ARGV[4]) then
+        return 0
+      end
+      redis.call('ZREM', KEYS[3], ARGV[1])
+      redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+      redis.call('HSET', KEYS[2], ARGV[1], ARGV[3])
+      return 1
+      """, Long.class);
+
+  /**
+   * 임대가 만료된 메시지를 재시도 대상으로 되돌린 뒤, 재시도 시각이 된 메시지를 처리 중 ZSET으로 옮기고 ID와 본문을 번갈아 돌려준다.
+   * KEYS: 재시도 ZSET, 처리 중 ZSET, 본문 Hash / ARGV: 현재 시각, 조회 기준 시각, 임대 만료 시각, 최대 개수
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+      -- 임대가 만료된 시각부터 다시 재시도 대상이 된다
+      local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[4])
+      for i = 1, #expired, 2 do
+        redis.call('ZREM', KEYS[2], expired[i])
+        redis.call('ZADD', KEYS[1], expired[i + 1], expired[i])
+      end
+
+      local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[2], 'LIMIT', 0, ARGV[4])
+      local messages = {}
+      for _, id in ipairs(ids) do
+        redis.call('ZREM', KEYS[1], id)
+        local message = redis.call('HGET', KEYS[3], id)
+        if message then
+          redis.call('ZADD', KEYS[2], ARGV[3], id)
+          table.insert(messages, id)
+          table.insert(messages, message)
+        end
+      end
+      return messages
+      """, List.class);
 
   public void addToDeadLetterQueue(DeadLetterMessage message) {
     try {
       LocalDateTime nextRetryAt = calculateNextRetryAt(message.retryCount());
       DeadLetterMessage messageWithRetryTime = message.withNextRetryAt(nextRetryAt);
 
-      String messageJson = redisObjectMapper.writeValueAsString(messageWithRetryTime);
-      double score = toScore(nextRetryAt);
-
-      redisTemplate.opsForZSet().add(DLQ_SORTED_SET_KEY, messageWithRetryTime.id(), score);
-      redisTemplate.opsForHash().put(DLQ_HASH_KEY, messageWithRetryTime.id(), messageJson);
+      upsert(messageWithRetryTime, nextRetryAt);
 
       log.info("DLQ 저장 완료 - id: {}, retryCount: {}, nextRetryAt: {}",
           messageWithRetryTime.id(), messageWithRetryTime.retryCount(), nextRetryAt);
@@ -44,32 +114,18 @@ public class RedisDLQService {
     }
   }
 
+  /**
+   * 재시도 시각이 된 메시지를 가져가지 않고 조회만 한다. 재시도 배치는 {@link #claimRetryableMessages}를 쓴다.
+   */
   public List<DeadLetterMessage> getRetryableMessages() {
     try {
-      double now = toScore(LocalDateTime.now());
-
-      // Sorted Set에서 messageId 목록 조회
       Set<String> messageIds = redisTemplate.opsForZSet()
-          .rangeByScore(DLQ_SORTED_SET_KEY, 0, now);
-
+          .rangeByScore(DLQ_SORTED_SET_KEY, 0, toScore(LocalDateTime.now()));
       if (messageIds == null || messageIds.isEmpty()) {
         return List.of();
       }
 
-      // Hash에서 실제 메시지 조회
-      List<DeadLetterMessage> messages = new ArrayList<>();
-      for (String messageId : messageIds) {
-        String json = (String) redisTemplate.opsForHash().get(DLQ_HASH_KEY, messageId);
-        if (json != null) {
-          try {
-            DeadLetterMessage message = redisObjectMapper.readValue(json, DeadLetterMessage.class);
-            messages.add(message);
-          } catch (JsonProcessingException e) {
-            log.error("DLQ 메시지 파싱 실패 - messageId: {}", messageId, e);
-          }
-        }
-      }
-
+      List<DeadLetterMessage> messages = fetchMessages(new ArrayList<>(messageIds));
       log.debug("재시도 가능 메시지 조회 완료 - 개수: {}", messages.size());
       return messages;
 
@@ -79,13 +135,128 @@ public class RedisDLQService {
     }
   }
 
+  /**
+   * 재시도 시각이 until 이전인 메시지를 최대 limit개 가져가 leaseSeconds 동안 다른 워커가 가져가지 못하게 한다.
+   * 가져간 메시지는 removeClaimedMessage 또는 rescheduleClaimedMessage로 결과를 반영해야 하며,
+   * 반영 전에 임대가 만료되면 다시 재시도 대상이 되고 늦게 도착한 반영은 무시된다.
+   */
+  public List<ClaimedMessage> claimRetryableMessages(LocalDateTime until, int limit, int leaseSeconds) {
+    long now = System.currentTimeMillis();
+    long leaseToken = now + leaseSeconds * 1000L;
+    List<?> values = redisTemplate.execute(CLAIM_SCRIPT,
+        List.of(DLQ_SORTED_SET_KEY, DLQ_IN_FLIGHT_KEY, DLQ_HASH_KEY),
+        String.valueOf(now),
+        String.valueOf((long) toScore(until)),
+        String.valueOf(leaseToken),
+        String.valueOf(limit));
+
+    if (values == null || values.isEmpty()) {
+      return List.of();
+    }
+
+    List<ClaimedMessage> messages = new ArrayList<>();
+    for (int i = 0; i + 1 < values.size(); i += 2) {
+      String messageId = (String) values.get(i);
+      try {
+        messages.add(new ClaimedMessage(
+            redisObjectMapper.readValue((String) values.get(i + 1), DeadLetterMessage.class), leaseToken));
+      } catch (JsonProcessingException e) {
+        // 다시 가져가도 읽을 수 없으므로 임대 만료 후 계속 되돌아오지 않게 제거한다
+        log.error("DLQ 메시지 파싱 실패 (제거) - messageId: {}", messageId, e);
+        removeMessage(messageId);
+      }
+    }
+    return messages;
+  }
+
+  /**
+   * 가져갔지만 처리하지 않은 메시지를 원래 재시도 시각으로 되돌린다.
+   */
+  public boolean releaseMessage(ClaimedMessage claimed) {
+    try {
+      return reschedule(claimed, claimed.message(), claimed.message().nextRetryAt());
+    } catch (JsonProcessingException e) {
+      log.error("DLQ 메시지 반환 실패 - id: {}", claimed.id(), e);
+      throw new RuntimeException("DLQ 메시지 반환 실패", e);
+    }
+  }
+
+  /**
+   * 처리를 마친 메시지를 제거한다. 임대가 만료되어 다른 워커에게 넘어갔다면 아무것도 하지 않고 false를 반환한다.
+   */
+  public boolean removeClaimedMessage(ClaimedMessage claimed) {
+    Long removed = redisTemplate.execute(CLAIMED_REMOVE_SCRIPT,
+        List.of(DLQ_IN_FLIGHT_KEY, DLQ_HASH_KEY), claimed.id(), String.valueOf(claimed.leaseToken()));
+
+    boolean success = removed != null && removed > 0;
+    if (success) {
+      log.info("DLQ 메시지 제거 완료 - id: {}", claimed.id());
+    } else {
+      log.warn("DLQ 메시지 제거 무시 - 임대 만료: id={}", claimed.id());
+    }
+    return success;
+  }
+
+  /**
+   * 실패한 메시지를 다음 재시도 시각으로 다시 예약한다. 임대가 만료되었다면 아무것도 하지 않고 false를 반환한다.
+   */
+  public boolean rescheduleClaimedMessage(ClaimedMessage claimed, DeadLetterMessage message) {
+    try {
+      LocalDateTime nextRetryAt = calculateNextRetryAt(message.retryCount());
+      DeadLetterMessage updatedMessage = message.withNextRetryAt(nextRetryAt);
+
+      boolean success = reschedule(claimed, updatedMessage, nextRetryAt);
+      if (success) {
+        log.info("DLQ 메시지 업데이트 완료 - id: {}, retryCount: {}, nextRetryAt: {}",
+            updatedMessage.id(), updatedMessage.retryCount(), nextRetryAt);
+      } else {
+        log.warn("DLQ 메시지 업데이트 무시 - 임대 만료: id={}", updatedMessage.id());
+      }
+      return success;
+
+    } catch (JsonProcessingException e) {
+      log.error("DLQ 메시지 업데이트 실패 - id: {}", message.id(), e);
+      throw new RuntimeException("DLQ 메시지 업데이트 실패", e);
+    }
+  }
+
+  /**
+   * at 이전에 임대가 만료되어 다음 claim 때 재시도 대상으로 되돌아갈 메시지 수
+   */
+  public long countExpiredClaims(LocalDateTime at) {
+    Long count = redisTemplate.opsForZSet().count(DLQ_IN_FLIGHT_KEY, 0, toScore(at));
+    return count != null ? count : 0L;
+  }
+
+  public long countInFlightMessages() {
+    Long count = redisTemplate.opsForZSet().zCard(DLQ_IN_FLIGHT_KEY);
+    return count != null ? count : 0L;
+  }
+
+  public long countRetryableMessages(LocalDateTime until) {
+    Long count = redisTemplate.opsForZSet().count(DLQ_SORTED_SET_KEY, 0, toScore(until));
+    return count != null ? count : 0L;
+  }
+
+  /**
+   * 가장 오래 기다린 메시지의 재시도 예정 시각. 현재 시각과의 차이가 재시도 지연이다.
+   */
+  public Optional<LocalDateTime> getOldestRetryAt() {
+    Set<TypedTuple<String>> oldest = redisTemplate.opsForZSet().rangeWithScores(DLQ_SORTED_SET_KEY, 0, 0);
+    if (oldest == null || oldest.isEmpty()) {
+      return Optional.empty();
+    }
+    Double score = oldest.iterator().next().getScore();
+    return Optional.ofNullable(score)
+        .map(millis -> LocalDateTime.ofInstant(Instant.ofEpochMilli(millis.longValue()), ZoneId.systemDefault()));
+  }
+
   public boolean removeMessage(String messageId) {
     try {
-      Long zsetRemoved = redisTemplate.opsForZSet().remove(DLQ_SORTED_SET_KEY, messageId);
-      Long hashRemoved = redisTemplate.opsForHash().delete(DLQ_HASH_KEY, messageId);
+      Long removed = redisTemplate.execute(REMOVE_SCRIPT,
+          List.of(DLQ_SORTED_SET_KEY, DLQ_HASH_KEY, DLQ_IN_FLIGHT_KEY), messageId);
 
-      boolean success = (zsetRemoved != null && zsetRemoved > 0) ||
-          (hashRemoved != null && hashRemoved > 0);
+      boolean success = removed != null && removed > 0;
 
       if (success) {
         log.info("DLQ 메시지 제거 완료 - id: {}", messageId);
@@ -106,11 +277,7 @@ public class RedisDLQService {
       LocalDateTime nextRetryAt = calculateNextRetryAt(message.retryCount());
       DeadLetterMessage updatedMessage = message.withNextRetryAt(nextRetryAt);
 
-      String messageJson = redisObjectMapper.writeValueAsString(updatedMessage);
-      double score = toScore(nextRetryAt);
-
-      redisTemplate.opsForZSet().add(DLQ_SORTED_SET_KEY, updatedMessage.id(), score);
-      redisTemplate.opsForHash().put(DLQ_HASH_KEY, updatedMessage.id(), messageJson);
+      upsert(updatedMessage, nextRetryAt);
 
       log.info("DLQ 메시지 업데이트 완료 - id: {}, retryCount: {}, nextRetryAt: {}",
           updatedMessage.id(), updatedMessage.retryCount(), nextRetryAt);
@@ -133,6 +300,40 @@ public class RedisDLQService {
     return LocalDateTime.now().plusMinutes(delayMinutes);
   }
 
+  private void upsert(DeadLetterMessage message, LocalDateTime nextRetryAt) throws JsonProcessingException {
+    String messageJson = redisObjectMapper.writeValueAsString(message);
+    redisTemplate.execute(UPSERT_SCRIPT, List.of(DLQ_SORTED_SET_KEY, DLQ_HASH_KEY, DLQ_IN_FLIGHT_KEY),
+        message.id(), String.valueOf((long) toScore(nextRetryAt)), messageJson);
+  }
+
+  private boolean reschedule(ClaimedMessage claimed, DeadLetterMessage message, LocalDateTime nextRetryAt)
+      throws JsonProcessingException {
+    String messageJson = redisObjectMapper.writeValueAsString(message);
+    Long updated = redisTemplate.execute(CLAIMED_RESCHEDULE_SCRIPT,
+        List.of(DLQ_SORTED_SET_KEY, DLQ_HASH_KEY, DLQ_IN_FLIGHT_KEY),
+        message.id(), String.valueOf((long) toScore(nextRetryAt)), messageJson,
+        String.valueOf(claimed.leaseToken()));
+    return updated != null && updated > 0;
+  }
+
+  private List<DeadLetterMessage> fetchMessages(List<String> messageIds) {
+    // HMGET 한 번에 조회
+    List<Object> jsons = redisTemplate.opsForHash().multiGet(DLQ_HASH_KEY, new ArrayList<>(messageIds));
+    List<DeadLetterMessage> messages = new ArrayList<>();
+    for (int i = 0; i < messageIds.size(); i++) {
+      Object json = jsons.get(i);
+      if (json == null) {
+        continue;
+      }
+      try {
+        messages.add(redisObjectMapper.readValue((String) json, DeadLetterMessage.class));
+      } catch (JsonProcessingException e) {
+        log.error("DLQ 메시지 파싱 실패 - messageId: {}", messageIds.get(i), e);
+      }
+    }
+    return messages;
+  }
+
   private double toScore(LocalDateTime dateTime) {
     return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
   }
@@ -0,0 +1,109 @@
+package com.phm.ecommerce.infrastructure.id;
+
+import com.phm.ecommerce.domain.common.TimeOrderedIdGenerator;
+import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인스턴스마다 겹치지 않는 ID 워커 번호를 Redis에서 임대해 {@link TimeOrderedIdGenerator}에 지정한다.
+ * 임대는 주기적으로 연장하며, 임대를 잃으면 새 번호를 다시 임대한다.
+ * Redis 장애로 연장을 확인하지 못한 채 TTL이 지나면 다른 인스턴스가 같은 번호를 임대할 수 있으므로,
+ * 마지막으로 연장에 성공한 시점부터 TTL이 지나면 다시 확인될 때까지 ID 발급을 멈춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdWorkerLease {
+
+  private static final Duration LEASE_TTL = Duration.ofSeconds(60);
+  private static final Duration RENEW_INTERVAL = Duration.ofSeconds(20);
+
+  private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+      end
+      return 0
+      """, Long.class);
+
+  private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+      if redis.call('GET', KEYS[1]) == ARGV[1] then
+        return redis.call('DEL', KEYS[1])
+      end
+      return 0
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private final String token = UUID.randomUUID().toString();
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      Thread.ofPlatform().name("id-worker-lease").daemon().factory());
+
+  private volatile int workerId = -1;
+  private volatile long lastRenewedAt;
+
+  @PostConstruct
+  public void acquire() {
+    workerId = claim();
+    scheduler.scheduleAtFixedRate(this::renew,
+        RENEW_INTERVAL.toSeconds(), RENEW_INTERVAL.toSeconds(), TimeUnit.SECONDS);
+  }
+
+  @PreDestroy
+  public void release() {
+    scheduler.shutdownNow();
+    if (workerId >= 0) {
+      stringRedisTemplate.execute(RELEASE_SCRIPT,
+          List.of(RedisCacheKeys.idWorker(workerId)), token);
+      log.info("ID 워커 번호 반납 - workerId: {}", workerId);
+    }
+  }
+
+  private int claim() {
+    for (int candidate = 0; candidate <= TimeOrderedIdGenerator.MAX_WORKER_ID; candidate++) {
+      // 요청 전 시각을 기준으로 해야 Redis의 TTL보다 먼저 만료된다
+      long requestedAt = System.currentTimeMillis();
+      Boolean acquired = stringRedisTemplate.opsForValue()
+          .setIfAbsent(RedisCacheKeys.idWorker(candidate), token, LEASE_TTL);
+      if (Boolean.TRUE.equals(acquired)) {
+        lastRenewedAt = requestedAt;
+        TimeOrderedIdGenerator.assignWorkerId(candidate, requestedAt + LEASE_TTL.toMillis());
+        log.info("ID 워커 번호 임대 - workerId: {}", candidate);
+        return candidate;
+      }
+    }
+    throw new IllegalStateException("사용 가능한 ID 워커 번호가 없습니다.");
+  }
+
+  private void renew() {
+    try {
+      long requestedAt = System.currentTimeMillis();
+      Long renewed = stringRedisTemplate.execute(RENEW_SCRIPT,
+          List.of(RedisCacheKeys.idWorker(workerId)), token, String.valueOf(LEASE_TTL.toMillis()));
+      if (renewed == null || renewed == 0) {
+        log.warn("ID 워커 번호 임대 만료 - workerId: {}, 새 번호 임대 시도", workerId);
+        TimeOrderedIdGenerator.revokeWorkerId();
+        workerId = claim();
+        return;
+      }
+      lastRenewedAt = requestedAt;
+      TimeOrderedIdGenerator.extendWorkerId(requestedAt + LEASE_TTL.toMillis());
+    } catch (Exception e) {
+      // 발급 중단은 TimeOrderedIdGenerator가 유효 기한으로 판단한다
+      log.error("ID 워커 번호 임대 연장 실패 - workerId: {}, 마지막 연장 후 경과: {}ms",
+          workerId, System.currentTimeMillis() - lastRenewedAt, e);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.phm.ecommerce.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phm.ecommerce.domain.outbox.OutboxEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEventType;
+import com.phm.ecommerce.infrastructure.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxEventService {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 호출한 트랜잭션과 함께 커밋되어야 하므로 진행 중인 트랜잭션 없이는 호출할 수 없다.
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(OutboxEventType eventType, Long aggregateId, Object event) {
+    try {
+      String payload = objectMapper.writeValueAsString(event);
+      outboxEventRepository.save(OutboxEvent.create(eventType, aggregateId, payload));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("아웃박스 이벤트 직렬화 실패 - eventType: " + eventType, e);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.phm.ecommerce.infrastructure.outbox;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@Getter
+@ConfigurationProperties(prefix = "outbox.relay")
+public class OutboxProperties {
+
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+  private final int leaseSeconds;
+  private final int maxAttempts;
+  private final int retryDelaySeconds;
+  private final int maxConcurrency;
+
+  public OutboxProperties(
+      @DefaultValue("100") int batchSize,
+      @DefaultValue("10") int maxBatchesPerRun,
+      @DefaultValue("30") int leaseSeconds,
+      @DefaultValue("5") int maxAttempts,
+      @DefaultValue("1") int retryDelaySeconds,
+      @DefaultValue("20") int maxConcurrency) {
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+    this.leaseSeconds = leaseSeconds;
+    this.maxAttempts = maxAttempts;
+    this.retryDelaySeconds = retryDelaySeconds;
+    this.maxConcurrency = maxConcurrency;
+  }
+}
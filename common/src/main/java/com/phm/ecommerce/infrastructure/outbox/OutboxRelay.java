@@ -0,0 +1,167 @@
+package com.phm.ecommerce.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.phm.ecommerce.application.service.ExternalOrderService;
+import com.phm.ecommerce.domain.order.event.OrderCreatedEvent;
+import com.phm.ecommerce.domain.outbox.OutboxEvent;
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import com.phm.ecommerce.infrastructure.dlq.DeadLetterMessage;
+import com.phm.ecommerce.infrastructure.dlq.RedisDLQService;
+import com.phm.ecommerce.infrastructure.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 아웃박스에 쌓인 이벤트를 배치 단위로 가져와 외부 시스템에 전달한다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 수신 측은 aggregateId로 중복을 걸러야 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ExternalOrderService externalOrderService;
+  private final RedisDLQService dlqService;
+  private final ObjectMapper objectMapper;
+  private final OutboxProperties outboxProperties;
+  private final PlatformTransactionManager transactionManager;
+  private final BoundedVirtualThreadExecutor outboxDeliveryExecutor;
+
+  public int relay() {
+    int relayed = 0;
+    for (int batch = 0; batch < outboxProperties.getMaxBatchesPerRun(); batch++) {
+      List<OutboxEvent> claimed = claim();
+      if (claimed.isEmpty()) {
+        break;
+      }
+
+      complete(deliver(claimed));
+      relayed += claimed.size();
+
+      if (claimed.size() < outboxProperties.getBatchSize()) {
+        break;
+      }
+    }
+
+    if (relayed > 0) {
+      log.info("아웃박스 이벤트 전달 완료 - 처리: {} 건", relayed);
+    }
+    return relayed;
+  }
+
+  /**
+   * 행 잠금은 임대 시각을 기록하는 짧은 트랜잭션 동안만 유지하고, 외부 호출은 트랜잭션 밖에서 수행한다.
+   */
+  private List<OutboxEvent> claim() {
+    return newTransaction().execute(status -> {
+      LocalDateTime now = LocalDateTime.now();
+      List<OutboxEvent> due = outboxEventRepository.findDueForUpdateSkipLocked(
+          now, outboxProperties.getBatchSize());
+      LocalDateTime leaseUntil = now.plusSeconds(outboxProperties.getLeaseSeconds());
+      due.forEach(event -> event.claim(leaseUntil));
+      return due;
+    });
+  }
+
+  /**
+   * 이벤트마다 가상 스레드에서 전달하고, 외부 시스템으로 나가는 동시 호출 수는 outboxDeliveryExecutor가 제한한다.
+   */
+  private Map<OutboxEvent, Exception> deliver(List<OutboxEvent> events) {
+    Map<OutboxEvent, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+    for (OutboxEvent event : events) {
+      futures.put(event, CompletableFuture.runAsync(() -> {
+        try {
+          dispatch(event);
+        } catch (Exception e) {
+          throw new CompletionException(e);
+        }
+      }, outboxDeliveryExecutor));
+    }
+    CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+        .exceptionally(e -> null)
+        .join();
+
+    Map<OutboxEvent, Exception> results = new LinkedHashMap<>();
+    futures.forEach((event, future) -> results.put(event,
+        future.isCompletedExceptionally() ? toException(future.exceptionNow()) : null));
+    return results;
+  }
+
+  private void dispatch(OutboxEvent event) throws Exception {
+    switch (event.getEventType()) {
+      case ORDER_CREATED -> {
+        OrderCreatedEvent orderCreated = objectMapper.readValue(event.getPayload(), OrderCreatedEvent.class);
+        externalOrderService.sendOrderToExternalSystem(orderCreated.orderId(), orderCreated.userId(),
+            orderCreated.finalAmount(), orderCreated.createdAt());
+      }
+    }
+  }
+
+  private void complete(Map<OutboxEvent, Exception> results) {
+    List<Long> finishedIds = new ArrayList<>();
+    Map<Long, LocalDateTime> retries = new LinkedHashMap<>();
+
+    results.forEach((event, failure) -> {
+      if (failure == null) {
+        finishedIds.add(event.getId());
+      } else if (event.getAttemptCount() >= outboxProperties.getMaxAttempts()) {
+        moveToDeadLetterQueue(event, failure);
+        finishedIds.add(event.getId());
+      } else {
+        retries.put(event.getId(), nextAttemptAt(event.getAttemptCount()));
+        log.warn("아웃박스 이벤트 전달 실패 - id: {}, aggregateId: {}, attempt: {}, error: {}",
+            event.getId(), event.getAggregateId(), event.getAttemptCount(), failure.getMessage());
+      }
+    });
+
+    newTransaction().executeWithoutResult(status -> {
+      if (!finishedIds.isEmpty()) {
+        outboxEventRepository.deleteAllByIdInBatch(finishedIds);
+      }
+      retries.forEach(outboxEventRepository::reschedule);
+    });
+  }
+
+  private void moveToDeadLetterQueue(OutboxEvent event, Exception failure) {
+    log.error("아웃박스 이벤트 전달 최종 실패 - id: {}, aggregateId: {}, attempt: {}",
+        event.getId(), event.getAggregateId(), event.getAttemptCount(), failure);
+
+    dlqService.addToDeadLetterQueue(DeadLetterMessage.create(
+        "order:" + event.getAggregateId(),
+        event.getPayload(),
+        failure.getClass().getName(),
+        failure.getMessage()
+    ));
+  }
+
+  private LocalDateTime nextAttemptAt(int attemptCount) {
+    long delaySeconds = (long) outboxProperties.getRetryDelaySeconds() << Math.min(attemptCount - 1, 10);
+    return LocalDateTime.now().plusSeconds(delaySeconds);
+  }
+
+  private Exception toException(Throwable throwable) {
+    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+        ? throwable.getCause()
+        : throwable;
+    return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+  }
+
+  private TransactionTemplate newTransaction() {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    return transactionTemplate;
+  }
+}
@@ -0,0 +1,14 @@
+package com.phm.ecommerce.infrastructure.outbox;
+
+import com.phm.ecommerce.infrastructure.async.BoundedVirtualThreadExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxRelayConfig {
+
+  @Bean
+  public BoundedVirtualThreadExecutor outboxDeliveryExecutor(OutboxProperties outboxProperties) {
+    return new BoundedVirtualThreadExecutor("outbox-delivery", outboxProperties.getMaxConcurrency());
+  }
+}
@@ -3,41 +3,378 @@ package com.phm.ecommerce.infrastructure.queue;
 import com.phm.ecommerce.infrastructure.cache.RedisCacheKeys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CouponQueueService {
 
+  public static final long DUPLICATED = -1L;
+  public static final long SOLD_OUT = -2L;
+  public static final long NOT_INITIALIZED = -3L;
+
+  private static final int SEED_CHUNK_SIZE = 1000;
+  private static final long SCAN_COUNT = 1000L;
+
   private final RedisTemplate<String, Object> redisTemplate;
 
+  /**
+   * ARGV[3]이 1이면 발급 가능 여부를 먼저 확인하고 남은 수량을 하나 예약한다.
+   * 요청이 들어온 쿠폰은 활성 Set에 넣고, 비어 있던 대기열에 첫 요청이 들어오면 소비자를 깨우도록 신호 리스트에 쿠폰 ID를 넣는다.
+   * 카운터가 없으면 -3, 재고 소진이면 -2, 이미 발급되었거나 대기 중이면 -1, 성공하면 대기 순번(1부터)을 반환한다.
+   */
+  private static final RedisScript<Long> ENQUEUE_SCRIPT = RedisScript.of("""
+      local admission = ARGV[3] == '1'
+      if admission then
+        local stock = redis.call('GET', KEYS[3])
+        if not stock then
+          return -3
+        end
+        if redis.call('SISMEMBER', KEYS[4], ARGV[2]) == 1 then
+          return -1
+        end
+        if tonumber(stock) <= 0 then
+          return -2
+        end
+      end
+      if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+        return -1
+      end
+      if admission then
+        redis.call('DECR', KEYS[3])
+        redis.call('SADD', KEYS[4], ARGV[2])
+      end
+      local sequence = redis.call('INCR', KEYS[2])
+      redis.call('ZADD', KEYS[1], sequence, ARGV[1])
+      redis.call('SADD', KEYS[6], ARGV[4])
+      local size = redis.call('ZCARD', KEYS[1])
+      if size == 1 then
+        redis.call('RPUSH', KEYS[5], ARGV[4])
+      end
+      return size
+      """, Long.class);
+
+  // 이미 다른 요청이 카운터를 만들었다면 기존 값을 유지한다. 대기 중인 요청은 남은 수량에서 뺀다
+  private static final RedisScript<Long> INITIALIZE_SCRIPT = RedisScript.of("""
+      local stock = redis.call('GET', KEYS[1])
+      if stock then
+        return tonumber(stock)
+      end
+      local remaining = math.max(tonumber(ARGV[1]) - redis.call('ZCARD', KEYS[2]), 0)
+      redis.call('SET', KEYS[1], remaining)
+      return remaining
+      """, Long.class);
+
+  // ARGV: 재시도 횟수, 쿠폰 ID, 멤버 목록
+  private static final RedisScript<Long> RETRY_ENQUEUE_SCRIPT = RedisScript.of("""
+      for i = 3, #ARGV do
+        redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+      end
+      redis.call('SADD', KEYS[2], ARGV[2])
+      return #ARGV - 2
+      """, Long.class);
+
+  // 아직 재시도 큐에 남아 있는 멤버만 재시도 횟수(score)를 1 올린다
+  private static final RedisScript<Long> RETRY_REQUEUE_SCRIPT = RedisScript.of("""
+      local requeued = 0
+      for i = 1, #ARGV do
+        if redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+          redis.call('ZINCRBY', KEYS[1], 1, ARGV[i])
+          requeued = requeued + 1
+        end
+      end
+      return requeued
+      """, Long.class);
+
+  /**
+   * 재시도 횟수가 ARGV[1] 이상인 요청을 DLQ로 옮기고, 옮긴 사용자의 예약을 되돌린다.
+   * DB 재고가 소진된 쿠폰은 되돌릴 수량이 없으므로 카운터를 그대로 둔다.
+   * KEYS: 재시도 큐, DLQ, 재고 카운터, 발급 사용자 Set, 소진 표시 / ARGV: 최대 재시도 횟수, 이동 시각
+   */
+  private static final RedisScript<Long> MOVE_TO_DLQ_SCRIPT = RedisScript.of("""
+      local members = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], '+inf')
+      if #members == 0 then
+        return 0
+      end
+      for _, member in ipairs(members) do
+        redis.call('ZADD', KEYS[2], ARGV[2], member)
+        local userId = string.match(member, '(%d+):')
+        if userId then
+          redis.call('SREM', KEYS[4], userId)
+        end
+      end
+      redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[1], '+inf')
+      if redis.call('EXISTS', KEYS[3]) == 1 and redis.call('EXISTS', KEYS[5]) == 0 then
+        redis.call('INCRBY', KEYS[3], #members)
+      end
+      return #members
+      """, Long.class);
+
+  // 대기열, 재시도 큐, 처리 중 ZSET이 모두 비었을 때만 활성 Set에서 뺀다
+  private static final RedisScript<Long> DEACTIVATE_SCRIPT = RedisScript.of("""
+      if redis.call('ZCARD', KEYS[1]) == 0 and redis.call('ZCARD', KEYS[2]) == 0
+          and redis.call('ZCARD', KEYS[4]) == 0 then
+        return redis.call('SREM', KEYS[3], ARGV[1])
+      end
+      return 0
+      """, Long.class);
+
+  // 대기열이 남아 있고 신호 리스트에 아직 없을 때만 신호를 넣어, 주기마다 다시 보내도 신호가 쌓이지 않게 한다
+  private static final RedisScript<Long> RESIGNAL_SCRIPT = RedisScript.of("""
+      if redis.call('ZCARD', KEYS[1]) == 0 or redis.call('LPOS', KEYS[2], ARGV[1]) then
+        return 0
+      end
+      redis.call('RPUSH', KEYS[2], ARGV[1])
+      return 1
+      """, Long.class);
+
+  /**
+   * 대기열에서 가장 오래된 요청을 최대 ARGV[1]개 꺼내 처리 중 ZSET으로 옮긴다. score는 임대 만료 시각(ms)이다.
+   * 꺼낸 요청은 DB 발급이나 재시도 큐 추가가 끝난 뒤 확인 처리하고, 그 전에 노드가 죽으면 임대 만료 후 회수된다.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final RedisScript<List> CLAIM_SCRIPT = RedisScript.of("""
+      local members = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+      if #members == 0 then
+        return members
+      end
+      redis.call('ZREM', KEYS[1], unpack(members))
+      for _, member in ipairs(members) do
+        redis.call('ZADD', KEYS[2], ARGV[2], member)
+      end
+      return members
+      """, List.class);
+
+  /**
+   * 임대가 끝난 처리 중 요청을 회수한다. 아직 처리 중 ZSET에 남아 있는 것만 옮기므로 그 사이 확인 처리된 요청은 건드리지 않는다.
+   * KEYS: 처리 중 ZSET, 재시도 큐, 활성 Set / ARGV: 쿠폰 ID, 재시도할 멤버 수, 재시도할 멤버..., 버릴 멤버...
+   */
+  private static final RedisScript<Long> RECOVER_IN_FLIGHT_SCRIPT = RedisScript.of("""
+      local retryCount = tonumber(ARGV[2])
+      local requeued = 0
+      for i = 3, #ARGV do
+        if redis.call('ZREM', KEYS[1], ARGV[i]) == 1 and i < 3 + retryCount then
+          redis.call('ZADD', KEYS[2], 'NX', 0, ARGV[i])
+          requeued = requeued + 1
+        end
+      end
+      if requeued > 0 then
+        redis.call('SADD', KEYS[3], ARGV[1])
+      end
+      return requeued
+      """, Long.class);
+
+  // 소진 표시가 있으면 DB에 남은 수량이 없으므로 되돌리지 않는다
+  private static final RedisScript<Long> RETURN_STOCK_SCRIPT = RedisScript.of("""
+      if redis.call('EXISTS', KEYS[2]) == 1 then
+        return 0
+      end
+      if redis.call('EXISTS', KEYS[1]) == 1 then
+        return redis.call('INCRBY', KEYS[1], ARGV[1])
+      end
+      return -3
+      """, Long.class);
+
+  private static final RedisScript<Long> MARK_SOLD_OUT_SCRIPT = RedisScript.of("""
+      redis.call('SET', KEYS[2], 1)
+      redis.call('SET', KEYS[1], 0)
+      return 0
+      """, Long.class);
+
+  /**
+   * 발급 가능 여부를 확인하지 않고 대기열에만 추가한다.
+   */
   public boolean addCouponRequest(Long couponId, Long userId) {
-    String queueKey = RedisCacheKeys.couponQueue(couponId);
-    String member = createMember(userId, couponId);
+    return enqueue(couponId, userId, false) > 0;
+  }
 
-    String sequenceKey = RedisCacheKeys.couponQueueSequence(couponId);
-    Long sequence = redisTemplate.opsForValue().increment(sequenceKey);
+  /**
+   * 카운터 확인, 발급 사용자 중복 확인, 수량 예약, 대기열 추가, 대기 순번 조회를 스크립트 한 번으로 처리한다.
+   * 카운터가 없으면 {@link #NOT_INITIALIZED}, 재고가 소진되었으면 {@link #SOLD_OUT},
+   * 이미 발급되었거나 대기 중이면 {@link #DUPLICATED}를 반환한다.
+   */
+  public long enqueueCouponRequest(Long couponId, Long userId) {
+    return enqueue(couponId, userId, true);
+  }
 
-    if (sequence == null) {
-      log.error("쿠폰 발급 요청 시퀀스 생성 실패 - couponId: {}, userId: {}", couponId, userId);
-      return false;
+  private long enqueue(Long couponId, Long userId, boolean admission) {
+    // 인자는 값 직렬화기를 거치므로 숫자는 Long으로 넘겨야 스크립트에서 그대로 읽힌다
+    Long result = redisTemplate.execute(ENQUEUE_SCRIPT,
+        List.of(RedisCacheKeys.couponQueue(couponId),
+            RedisCacheKeys.couponQueueSequence(couponId),
+            RedisCacheKeys.couponStock(couponId),
+            RedisCacheKeys.couponIssuedUsers(couponId),
+            RedisCacheKeys.COUPON_QUEUE_SIGNAL,
+            RedisCacheKeys.COUPON_ACTIVE),
+        createMember(userId, couponId), userId, admission ? 1L : 0L, couponId);
+
+    if (result == null) {
+      log.error("쿠폰 발급 요청 큐 추가 실패 - couponId: {}, userId: {}", couponId, userId);
+      return DUPLICATED;
     }
 
-    Boolean added = redisTemplate.opsForZSet().add(queueKey, member, sequence.doubleValue());
-
-    if (Boolean.TRUE.equals(added)) {
-      log.debug("쿠폰 발급 요청 큐 추가 성공 - couponId: {}, userId: {}, sequence: {}",
-          couponId, userId, sequence);
-      return true;
-    } else {
+    if (result == NOT_INITIALIZED) {
+      log.debug("쿠폰 발급 카운터 없음 - couponId: {}", couponId);
+    } else if (result == SOLD_OUT) {
+      log.debug("쿠폰 발급 요청 거절 (재고 소진) - couponId: {}, userId: {}", couponId, userId);
+    } else if (result == DUPLICATED) {
       log.debug("쿠폰 발급 요청 중복 - couponId: {}, userId: {}", couponId, userId);
-      return false;
+    } else {
+      log.debug("쿠폰 발급 요청 큐 추가 성공 - couponId: {}, userId: {}, position: {}",
+          couponId, userId, result);
+    }
+    return result;
+  }
+
+  /**
+   * DB의 남은 수량과 발급 사용자로 카운터와 발급 사용자 Set을 만든다.
+   * 사용자 추가는 멱등이므로 여러 요청이 동시에 초기화해도 결과가 같다.
+   */
+  public long initializeCouponStock(Long couponId, long remainingQuantity, List<Long> issuedUserIds) {
+    String issuedKey = RedisCacheKeys.couponIssuedUsers(couponId);
+    for (int from = 0; from < issuedUserIds.size(); from += SEED_CHUNK_SIZE) {
+      List<Long> chunk = issuedUserIds.subList(from, Math.min(from + SEED_CHUNK_SIZE, issuedUserIds.size()));
+      redisTemplate.opsForSet().add(issuedKey, chunk.toArray());
+    }
+
+    Long stock = redisTemplate.execute(INITIALIZE_SCRIPT,
+        List.of(RedisCacheKeys.couponStock(couponId), RedisCacheKeys.couponQueue(couponId)),
+        remainingQuantity);
+    log.info("쿠폰 발급 카운터 초기화 - couponId: {}, stock: {}, issuedUsers: {}",
+        couponId, stock, issuedUserIds.size());
+    return stock != null ? stock : 0L;
+  }
+
+  /**
+   * 이미 발급받은 사용자의 요청으로 예약된 수량을 되돌린다. 사용자는 발급 사용자 Set에 그대로 둔다.
+   */
+  public void returnStock(Long couponId, long quantity) {
+    redisTemplate.execute(RETURN_STOCK_SCRIPT,
+        List.of(RedisCacheKeys.couponStock(couponId), RedisCacheKeys.couponSoldOut(couponId)), quantity);
+    log.debug("쿠폰 발급 예약 수량 반환 - couponId: {}, quantity: {}", couponId, quantity);
+  }
+
+  /**
+   * 재고가 소진된 쿠폰으로 표시해 이후 요청을 대기열에 넣기 전에 거절한다.
+   * 소진 표시가 남아 있는 동안은 중복이나 DLQ 이동으로 예약을 되돌려도 카운터를 올리지 않는다.
+   */
+  public void markSoldOut(Long couponId) {
+    redisTemplate.execute(MARK_SOLD_OUT_SCRIPT,
+        List.of(RedisCacheKeys.couponStock(couponId), RedisCacheKeys.couponSoldOut(couponId)));
+    log.info("쿠폰 재고 소진 표시 - couponId: {}", couponId);
+  }
+
+  /**
+   * 요청이 들어온 쿠폰 ID를 최대 timeout 동안 기다린다(BLPOP). 신호가 없으면 null을 반환한다.
+   */
+  public Long awaitSignaledCoupon(Duration timeout) {
+    Object couponId = redisTemplate.opsForList().leftPop(RedisCacheKeys.COUPON_QUEUE_SIGNAL, timeout);
+    return couponId instanceof Number number ? number.longValue() : null;
+  }
+
+  /**
+   * 처리하지 못하고 남은 대기열을 다른 소비자가 이어서 처리하도록 다시 신호를 보낸다.
+   */
+  public void signalCoupon(Long couponId) {
+    redisTemplate.opsForList().rightPush(RedisCacheKeys.COUPON_QUEUE_SIGNAL, couponId);
+  }
+
+  /**
+   * 대기열이 남아 있는데 신호가 없으면 다시 넣고 true를 반환한다.
+   * 신호를 꺼낸 소비자가 대기열을 다 비우기 전에 죽으면 빈 대기열이 아니라서 새 요청도 신호를 보내지 않으므로, 주기 배치가 이를 복구한다.
+   */
+  public boolean resignalIfQueued(Long couponId) {
+    Long pushed = redisTemplate.execute(RESIGNAL_SCRIPT,
+        List.of(RedisCacheKeys.couponQueue(couponId), RedisCacheKeys.COUPON_QUEUE_SIGNAL),
+        couponId);
+    return pushed != null && pushed > 0;
+  }
+
+  /**
+   * 대기열, 재시도 큐, 처리 중 ZSET에 요청이 남아 있는 쿠폰 ID
+   */
+  public Set<Long> getActiveCouponIds() {
+    Set<Object> members = redisTemplate.opsForSet().members(RedisCacheKeys.COUPON_ACTIVE);
+    if (members == null || members.isEmpty()) {
+      return Set.of();
+    }
+
+    Set<Long> couponIds = new TreeSet<>();
+    for (Object member : members) {
+      if (member instanceof Number couponId) {
+        couponIds.add(couponId.longValue());
+      }
     }
+    return couponIds;
+  }
+
+  /**
+   * 활성 Set이 생기기 전에 쌓인 대기열, 재시도 큐, 처리 중 키를 SCAN으로 찾아 활성 Set에 올린다.
+   * 이후의 요청은 모두 활성 Set을 거치므로 한 번만 하면 되고, 끝나면 표시 키를 남겨 다른 노드나 재기동 때 다시 SCAN하지 않는다.
+   * 여러 노드가 동시에 해도 SADD라 결과가 같으므로 표시는 끝난 뒤에 남긴다. 새로 올린 쿠폰 수를 반환한다.
+   */
+  public long backfillActiveCoupons() {
+    if (Boolean.TRUE.equals(redisTemplate.hasKey(RedisCacheKeys.COUPON_ACTIVE_BACKFILLED))) {
+      return 0L;
+    }
+
+    Set<Long> couponIds = new TreeSet<>();
+    scanCouponIds(RedisCacheKeys.COUPON_QUEUE_PATTERN, couponIds);
+    scanCouponIds(RedisCacheKeys.COUPON_RETRY_QUEUE_PATTERN, couponIds);
+    scanCouponIds(RedisCacheKeys.COUPON_IN_FLIGHT_PATTERN, couponIds);
+
+    Long added = couponIds.isEmpty()
+        ? 0L
+        : redisTemplate.opsForSet().add(RedisCacheKeys.COUPON_ACTIVE, couponIds.toArray());
+    redisTemplate.opsForValue().set(RedisCacheKeys.COUPON_ACTIVE_BACKFILLED, System.currentTimeMillis());
+    log.info("요청이 남은 쿠폰을 활성 목록에 백필 - 추가: {}, 대상: {}", added, couponIds.size());
+    return added != null ? added : 0L;
+  }
+
+  // 대기열 패턴은 순번 키(coupon:queue:sequence:*)도 함께 찾으므로 쿠폰 ID로 다시 만든 키와 같은 것만 남긴다
+  private void scanCouponIds(String pattern, Set<Long> couponIds) {
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+    try (Cursor<String> keys = redisTemplate.scan(options)) {
+      while (keys.hasNext()) {
+        String key = keys.next();
+        String suffix = key.substring(key.lastIndexOf(':') + 1);
+        if (suffix.isEmpty() || !suffix.chars().allMatch(Character::isDigit)) {
+          continue;
+        }
+        Long couponId = Long.valueOf(suffix);
+        if (key.equals(RedisCacheKeys.couponQueue(couponId))
+            || key.equals(RedisCacheKeys.couponRetryQueue(couponId))
+            || key.equals(RedisCacheKeys.couponInFlight(couponId))) {
+          couponIds.add(couponId);
+        }
+      }
+    }
+  }
+
+  /**
+   * 처리할 요청이 남아 있지 않으면 활성 Set에서 빼고 true를 반환한다.
+   */
+  public boolean deactivateIfIdle(Long couponId) {
+    Long removed = redisTemplate.execute(DEACTIVATE_SCRIPT,
+        List.of(RedisCacheKeys.couponQueue(couponId),
+            RedisCacheKeys.couponRetryQueue(couponId),
+            RedisCacheKeys.COUPON_ACTIVE,
+            RedisCacheKeys.couponInFlight(couponId)),
+        couponId);
+    return removed != null && removed > 0;
   }
 
   public boolean existsInQueue(Long couponId, Long userId) {
@@ -48,17 +385,85 @@ public class CouponQueueService {
     return score != null;
   }
 
-  public Set<ZSetOperations.TypedTuple<Object>> popOldestRequests(Long couponId, long limit) {
-    String queueKey = RedisCacheKeys.couponQueue(couponId);
+  /**
+   * 대기열에서 가장 오래된 요청을 최대 limit개 꺼내 leaseTime 동안 처리 중으로 표시하고 사용자 ID를 순서대로 반환한다.
+   * 처리를 마치면 {@link #acknowledgeRequests}로 처리 중 표시를 지워야 한다.
+   */
+  @SuppressWarnings("unchecked")
+  public List<Long> claimOldestRequests(Long couponId, long limit, Duration leaseTime) {
+    long leaseExpiresAt = System.currentTimeMillis() + leaseTime.toMillis();
+    List<Object> members = redisTemplate.execute(CLAIM_SCRIPT,
+        List.of(RedisCacheKeys.couponQueue(couponId), RedisCacheKeys.couponInFlight(couponId)),
+        limit, leaseExpiresAt);
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
 
-    Set<ZSetOperations.TypedTuple<Object>> requests = redisTemplate.opsForZSet()
-        .popMin(queueKey, limit);
+    List<Long> userIds = new ArrayList<>(members.size());
+    for (Object member : members) {
+      if (member instanceof String value) {
+        userIds.add(extractUserId(value));
+      }
+    }
+    log.debug("쿠폰 발급 큐에서 {} 개 요청 조회 - couponId: {}", userIds.size(), couponId);
+    return userIds;
+  }
 
-    if (requests != null && !requests.isEmpty()) {
-      log.debug("쿠폰 발급 큐에서 {} 개 요청 조회 - couponId: {}", requests.size(), couponId);
+  /**
+   * 발급 결과를 반영했거나 재시도 큐로 넘긴 요청의 처리 중 표시를 지운다.
+   */
+  public void acknowledgeRequests(Long couponId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return;
     }
 
-    return requests;
+    Object[] members = userIds.stream().map(userId -> createMember(userId, couponId)).toArray();
+    redisTemplate.opsForZSet().remove(RedisCacheKeys.couponInFlight(couponId), members);
+  }
+
+  /**
+   * 임대가 끝났는데도 확인 처리되지 않은 요청의 사용자 ID를 최대 limit개 반환한다.
+   */
+  public List<Long> getExpiredInFlightUserIds(Long couponId, long limit) {
+    Set<Object> members = redisTemplate.opsForZSet().rangeByScore(
+        RedisCacheKeys.couponInFlight(couponId), 0, System.currentTimeMillis(), 0, limit);
+    if (members == null || members.isEmpty()) {
+      return List.of();
+    }
+
+    List<Long> userIds = new ArrayList<>(members.size());
+    for (Object member : members) {
+      if (member instanceof String value) {
+        userIds.add(extractUserId(value));
+      }
+    }
+    return userIds;
+  }
+
+  /**
+   * 임대가 끝난 요청 중 DB에 발급되지 않은 요청은 재시도 큐로 옮기고, 이미 발급된 요청은 처리 중 표시만 지운다.
+   * 재시도 큐로 옮긴 요청 수를 반환한다.
+   */
+  public long recoverInFlightRequests(Long couponId, Collection<Long> retryUserIds, Collection<Long> issuedUserIds) {
+    if (retryUserIds.isEmpty() && issuedUserIds.isEmpty()) {
+      return 0L;
+    }
+
+    List<Object> args = new ArrayList<>(retryUserIds.size() + issuedUserIds.size() + 2);
+    args.add(couponId);
+    args.add((long) retryUserIds.size());
+    retryUserIds.forEach(userId -> args.add(createMember(userId, couponId)));
+    issuedUserIds.forEach(userId -> args.add(createMember(userId, couponId)));
+
+    Long requeued = redisTemplate.execute(RECOVER_IN_FLIGHT_SCRIPT,
+        List.of(RedisCacheKeys.couponInFlight(couponId),
+            RedisCacheKeys.couponRetryQueue(couponId),
+            RedisCacheKeys.COUPON_ACTIVE),
+        args.toArray());
+    long count = requeued != null ? requeued : 0L;
+    log.warn("임대가 끝난 쿠폰 발급 요청 회수 - couponId: {}, 재시도: {}, 발급 확인: {}",
+        couponId, count, issuedUserIds.size());
+    return count;
   }
 
   public long getQueueSize(Long couponId) {
@@ -102,13 +507,38 @@ public class CouponQueueService {
     }
   }
 
-  public void addToRetryQueue(Long couponId, Long userId, int retryCount) {
-    String retryQueueKey = RedisCacheKeys.couponRetryQueue(couponId);
-    String member = createMember(userId, couponId);
+  /**
+   * 여러 요청을 같은 재시도 횟수로 재시도 큐에 넣고 쿠폰을 활성 Set에 올린다.
+   */
+  public void addToRetryQueue(Long couponId, Collection<Long> userIds, int retryCount) {
+    if (userIds.isEmpty()) {
+      return;
+    }
 
-    redisTemplate.opsForZSet().add(retryQueueKey, member, retryCount);
-    log.debug("쿠폰 발급 재시도 큐 추가 - couponId: {}, userId: {}, retryCount: {}",
-        couponId, userId, retryCount);
+    List<Object> args = new ArrayList<>(userIds.size() + 2);
+    args.add((long) retryCount);
+    args.add(couponId);
+    userIds.forEach(userId -> args.add(createMember(userId, couponId)));
+
+    redisTemplate.execute(RETRY_ENQUEUE_SCRIPT,
+        List.of(RedisCacheKeys.couponRetryQueue(couponId), RedisCacheKeys.COUPON_ACTIVE),
+        args.toArray());
+    log.debug("쿠폰 발급 재시도 큐 추가 - couponId: {}, 요청 수: {}, retryCount: {}",
+        couponId, userIds.size(), retryCount);
+  }
+
+  /**
+   * 다시 실패한 요청의 재시도 횟수를 한 번에 1씩 올린다.
+   */
+  public long requeueRetries(Long couponId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return 0;
+    }
+
+    Long requeued = redisTemplate.execute(RETRY_REQUEUE_SCRIPT,
+        List.of(RedisCacheKeys.couponRetryQueue(couponId)),
+        userIds.stream().map(userId -> createMember(userId, couponId)).toArray());
+    return requeued != null ? requeued : 0L;
   }
 
   public Set<ZSetOperations.TypedTuple<Object>> getRetryRequests(Long couponId, int maxRetryCount, long limit) {
@@ -128,11 +558,13 @@ public class CouponQueueService {
   /**
    * 재시도 큐에서 요청 제거
    */
-  public void removeFromRetryQueue(Long couponId, Long userId) {
-    String retryQueueKey = RedisCacheKeys.couponRetryQueue(couponId);
-    String member = createMember(userId, couponId);
+  public void removeFromRetryQueue(Long couponId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return;
+    }
 
-    redisTemplate.opsForZSet().remove(retryQueueKey, member);
+    Object[] members = userIds.stream().map(userId -> createMember(userId, couponId)).toArray();
+    redisTemplate.opsForZSet().remove(RedisCacheKeys.couponRetryQueue(couponId), members);
   }
 
   public long getRetryQueueSize(Long couponId) {
@@ -142,28 +574,19 @@ public class CouponQueueService {
   }
 
   public long moveToDeadLetterQueue(Long couponId, int maxRetryCount) {
-    String retryQueueKey = RedisCacheKeys.couponRetryQueue(couponId);
-    String dlqKey = RedisCacheKeys.couponDeadLetterQueue(couponId);
-
-    // maxRetryCount 이상인 요청 조회
-    Set<ZSetOperations.TypedTuple<Object>> failedRequests = redisTemplate.opsForZSet()
-        .rangeByScoreWithScores(retryQueueKey, maxRetryCount, Double.MAX_VALUE);
-
-    if (failedRequests == null || failedRequests.isEmpty()) {
+    Long moved = redisTemplate.execute(MOVE_TO_DLQ_SCRIPT,
+        List.of(RedisCacheKeys.couponRetryQueue(couponId),
+            RedisCacheKeys.couponDeadLetterQueue(couponId),
+            RedisCacheKeys.couponStock(couponId),
+            RedisCacheKeys.couponIssuedUsers(couponId),
+            RedisCacheKeys.couponSoldOut(couponId)),
+        (long) maxRetryCount, System.currentTimeMillis());
+
+    if (moved == null || moved == 0) {
       return 0;
     }
 
-    // DLQ로 이동
-    long timestamp = System.currentTimeMillis();
-    for (ZSetOperations.TypedTuple<Object> request : failedRequests) {
-      String member = (String) request.getValue();
-      redisTemplate.opsForZSet().add(dlqKey, member, timestamp);
-      redisTemplate.opsForZSet().remove(retryQueueKey, member);
-    }
-
-    log.warn("쿠폰 발급 최대 재시도 초과 요청 DLQ 이동 - couponId: {}, 이동 수: {}",
-        couponId, failedRequests.size());
-
-    return failedRequests.size();
+    log.warn("쿠폰 발급 최대 재시도 초과 요청 DLQ 이동 - couponId: {}, 이동 수: {}", couponId, moved);
+    return moved;
   }
 }
@@ -3,6 +3,9 @@ package com.phm.ecommerce.infrastructure.repository;
 import com.phm.ecommerce.domain.cart.CartItem;
 import com.phm.ecommerce.domain.cart.exception.CartItemNotFoundException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -18,4 +21,11 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
   List<CartItem> findByUserId(Long userId);
 
   void deleteByUserId(Long userId);
+
+  @Query("SELECT c FROM CartItem c WHERE c.id IN :ids")
+  List<CartItem> findAllByIds(@Param("ids") List<Long> ids);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("DELETE FROM CartItem c WHERE c.id IN :ids")
+  int deleteAllByIds(@Param("ids") List<Long> ids);
 }
@@ -0,0 +1,18 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface CouponBulkRepository {
+
+  Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds);
+
+  /**
+   * user_coupons를 다중 행 INSERT ... ON DUPLICATE KEY UPDATE로 한 번에 넣고, 이번에 실제로 발급된 사용자 ID를 반환한다.
+   * uk_user_coupon에 걸린 사용자는 건너뛴다.
+   */
+  Set<Long> insertUserCoupons(
+      Long couponId, List<Long> userIds, LocalDateTime issuedAt, LocalDateTime expiredAt);
+}
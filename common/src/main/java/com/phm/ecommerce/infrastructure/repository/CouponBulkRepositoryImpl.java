@@ -0,0 +1,83 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import com.phm.ecommerce.domain.common.TimeOrderedIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class CouponBulkRepositoryImpl implements CouponBulkRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private static final int INSERT_CHUNK_SIZE = 500;
+
+  @Override
+  public Set<Long> findIssuedUserIds(Long couponId, Collection<Long> userIds) {
+    if (userIds.isEmpty()) {
+      return Set.of();
+    }
+
+    String placeholders = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+    List<Object> args = new ArrayList<>(userIds.size() + 1);
+    args.add(couponId);
+    args.addAll(userIds);
+
+    return new HashSet<>(jdbcTemplate.queryForList(
+        "SELECT user_id FROM user_coupons WHERE coupon_id = ? AND user_id IN (" + placeholders + ")",
+        Long.class, args.toArray()));
+  }
+
+  @Override
+  public Set<Long> insertUserCoupons(
+      Long couponId, List<Long> userIds, LocalDateTime issuedAt, LocalDateTime expiredAt) {
+    Set<Long> inserted = new HashSet<>();
+    for (int from = 0; from < userIds.size(); from += INSERT_CHUNK_SIZE) {
+      inserted.addAll(insertChunk(couponId,
+          userIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, userIds.size())),
+          Timestamp.valueOf(issuedAt), Timestamp.valueOf(expiredAt)));
+    }
+    return inserted;
+  }
+
+  private Set<Long> insertChunk(
+      Long couponId, List<Long> userIds, Timestamp issuedAt, Timestamp expiredAt) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Long> ids = new ArrayList<>(userIds.size());
+    List<Object> args = new ArrayList<>(userIds.size() * 7);
+    for (Long userId : userIds) {
+      long id = TimeOrderedIdGenerator.nextId();
+      ids.add(id);
+      args.add(id);
+      args.add(userId);
+      args.add(couponId);
+      args.add(issuedAt);
+      args.add(expiredAt);
+      args.add(now);
+      args.add(now);
+    }
+
+    String values = String.join(", ", Collections.nCopies(userIds.size(), "(?, ?, ?, ?, NULL, ?, ?, ?)"));
+    // INSERT IGNORE는 중복 외의 오류(NOT NULL, 잘림 등)까지 경고로 낮추므로 중복 키만 흡수한다
+    jdbcTemplate.update(
+        "INSERT INTO user_coupons "
+            + "(id, user_id, coupon_id, issued_at, used_at, expired_at, created_at, updated_at) VALUES "
+            + values
+            + " ON DUPLICATE KEY UPDATE id = id",
+        args.toArray());
+
+    // 드라이버 기본값(useAffectedRows=false)에서는 중복 행도 1로 세므로, 이번에 만든 ID로 실제 들어간 행을 확인한다
+    String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+    return new HashSet<>(jdbcTemplate.queryForList(
+        "SELECT user_id FROM user_coupons WHERE id IN (" + placeholders + ")",
+        Long.class, ids.toArray()));
+  }
+}
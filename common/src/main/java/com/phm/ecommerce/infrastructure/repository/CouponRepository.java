@@ -3,12 +3,13 @@ package com.phm.ecommerce.infrastructure.repository;
 import com.phm.ecommerce.domain.coupon.Coupon;
 import com.phm.ecommerce.domain.coupon.exception.CouponNotFoundException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface CouponRepository extends JpaRepository<Coupon, Long> {
+public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponBulkRepository {
 
   default Coupon findByIdOrThrow(Long id) {
     return findById(id).orElseThrow(CouponNotFoundException::new);
@@ -16,4 +17,24 @@ public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
   @Query("SELECT c FROM Coupon c WHERE c.id IN :ids")
   List<Coupon> findAllByIds(@Param("ids") List<Long> ids);
+
+  /**
+   * 남은 수량이 quantity 이상일 때만 발급 수량을 늘린다. 수량이 모자라면 0을 반환한다.
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity + :quantity, c.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE c.id = :couponId AND c.issuedQuantity + :quantity <= c.totalQuantity")
+  int increaseIssuedQuantity(@Param("couponId") Long couponId, @Param("quantity") Long quantity);
+
+  /**
+   * 남은 수량을 행 잠금과 함께 읽는다. 트랜잭션이 끝날 때까지 다른 발급이 수량을 바꾸지 못한다.
+   */
+  @Query(value = "SELECT total_quantity - issued_quantity FROM coupons WHERE id = :couponId FOR UPDATE",
+      nativeQuery = true)
+  long findRemainingQuantityForUpdate(@Param("couponId") Long couponId);
+
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("UPDATE Coupon c SET c.issuedQuantity = c.issuedQuantity - :quantity, c.updatedAt = CURRENT_TIMESTAMP "
+      + "WHERE c.id = :couponId")
+  int decreaseIssuedQuantity(@Param("couponId") Long couponId, @Param("quantity") Long quantity);
 }
@@ -0,0 +1,23 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import com.phm.ecommerce.domain.outbox.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+  // 다른 릴레이가 잠근 행은 건너뛰어 여러 인스턴스가 서로 다른 이벤트를 동시에 가져간다
+  @Query(value = "SELECT * FROM outbox_events WHERE next_attempt_at <= :now "
+      + "ORDER BY next_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+  List<OutboxEvent> findDueForUpdateSkipLocked(
+      @Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  @Modifying
+  @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :nextAttemptAt WHERE e.id = :id")
+  int reschedule(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
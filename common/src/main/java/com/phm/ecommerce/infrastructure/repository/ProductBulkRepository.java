@@ -0,0 +1,19 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import java.util.Map;
+
+public interface ProductBulkRepository {
+
+  int increaseViewCounts(Map<Long, Long> viewCounts);
+
+  /**
+   * 재고가 충분할 때만 차감하고 판매량을 함께 올린다. 재고가 부족하거나 상품이 없으면 0을 반환한다.
+   */
+  int decreaseStock(Long productId, Long quantity);
+
+  /**
+   * Redis에서 예약된 수량을 재고와 판매량에 일괄 반영한다.
+   * drainToken이 이미 기록된 묶음이면 아무것도 반영하지 않고 -1을 반환하므로 같은 트랜잭션 안에서 호출해야 한다.
+   */
+  int confirmReservedStocks(String drainToken, Map<Long, Long> reservedQuantities);
+}
@@ -0,0 +1,88 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class ProductBulkRepositoryImpl implements ProductBulkRepository {
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private static final int BATCH_SIZE = 500;
+
+  @Override
+  public int increaseViewCounts(Map<Long, Long> viewCounts) {
+    if (viewCounts.isEmpty()) {
+      return 0;
+    }
+
+    List<Object[]> args = new ArrayList<>(viewCounts.size());
+    viewCounts.forEach((productId, count) -> args.add(new Object[]{count, productId}));
+
+    int[][] results = jdbcTemplate.batchUpdate(
+        "UPDATE products SET view_count = view_count + ? WHERE id = ?",
+        args, BATCH_SIZE,
+        (ps, arg) -> {
+          ps.setLong(1, (Long) arg[0]);
+          ps.setLong(2, (Long) arg[1]);
+        });
+
+    return sumUpdated(results);
+  }
+
+  @Override
+  public int confirmReservedStocks(String drainToken, Map<Long, Long> reservedQuantities) {
+    if (reservedQuantities.isEmpty()) {
+      return 0;
+    }
+
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    // 다른 트랜잭션이 같은 토큰을 넣는 중이면 그 커밋을 기다린 뒤 중복 키로 실패한다. 문장 단위로만 롤백되므로 트랜잭션은 그대로다
+    try {
+      jdbcTemplate.update("INSERT INTO stock_reservation_drains (token, confirmed_at) VALUES (?, ?)", drainToken, now);
+    } catch (DuplicateKeyException e) {
+      return -1;
+    }
+
+    List<Object[]> args = new ArrayList<>(reservedQuantities.size());
+    reservedQuantities.forEach((productId, quantity) -> args.add(new Object[]{quantity, productId}));
+
+    int[][] results = jdbcTemplate.batchUpdate(
+        "UPDATE products SET quantity = quantity - ?, sales_count = sales_count + ?, updated_at = ? WHERE id = ?",
+        args, BATCH_SIZE,
+        (ps, arg) -> {
+          ps.setLong(1, (Long) arg[0]);
+          ps.setLong(2, (Long) arg[0]);
+          ps.setTimestamp(3, now);
+          ps.setLong(4, (Long) arg[1]);
+        });
+
+    return sumUpdated(results);
+  }
+
+  @Override
+  public int decreaseStock(Long productId, Long quantity) {
+    return jdbcTemplate.update(
+        "UPDATE products SET quantity = quantity - ?, sales_count = sales_count + ?, updated_at = ? "
+            + "WHERE id = ? AND quantity >= ?",
+        quantity, quantity, LocalDateTime.now(), productId, quantity);
+  }
+
+  private int sumUpdated(int[][] results) {
+    int updated = 0;
+    for (int[] batch : results) {
+      for (int count : batch) {
+        updated += Math.max(count, 0);
+      }
+    }
+    return updated;
+  }
+}
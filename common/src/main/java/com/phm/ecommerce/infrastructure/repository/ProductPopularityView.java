@@ -0,0 +1,13 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+/**
+ * 인기도 점수 계산에 필요한 컬럼만 읽는 프로젝션. 엔티티가 아니므로 영속성 컨텍스트에 쌓이지 않는다.
+ */
+public interface ProductPopularityView {
+
+  Long getId();
+
+  Long getViewCount();
+
+  Long getSalesCount();
+}
@@ -0,0 +1,55 @@
+package com.phm.ecommerce.infrastructure.repository;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Getter
+@ConfigurationProperties(prefix = "product.stock")
+public class ProductStockProperties {
+
+  private final DecrementMode decrementMode;
+  /**
+   * 재고 카운터를 Redis에 두고 Lua로 예약하는 플래시 세일 상품. decrementMode와 무관하게 상품 락을 잡지 않는다.
+   */
+  private final Set<Long> reservedProductIds;
+  /**
+   * 예약 후 주문 커밋 여부가 확인되지 않은 hold를 배치가 정리하기까지 기다리는 시간. 주문 트랜잭션보다 충분히 길어야 한다.
+   */
+  private final long reservationHoldSeconds;
+
+  public ProductStockProperties(
+      @DefaultValue("LOCK") DecrementMode decrementMode,
+      @DefaultValue Set<Long> reservedProductIds,
+      @DefaultValue("300") long reservationHoldSeconds) {
+    this.decrementMode = decrementMode;
+    this.reservedProductIds = reservedProductIds;
+    this.reservationHoldSeconds = reservationHoldSeconds;
+  }
+
+  public Duration getReservationHoldTtl() {
+    return Duration.ofSeconds(reservationHoldSeconds);
+  }
+
+  public boolean isReserved(Long productId) {
+    return reservedProductIds.contains(productId);
+  }
+
+  public boolean usesProductLock(Long productId) {
+    return decrementMode == DecrementMode.LOCK && !isReserved(productId);
+  }
+
+  public enum DecrementMode {
+    /**
+     * 상품별 분산 락을 잡고 엔티티를 읽어 차감한 뒤 저장한다.
+     */
+    LOCK,
+    /**
+     * 락 없이 재고 조건이 걸린 UPDATE 한 번으로 차감하고 영향받은 행 수로 성공 여부를 판단한다.
+     */
+    CONDITIONAL_UPDATE
+  }
+}
@@ -3,6 +3,8 @@ package com.phm.ecommerce.infrastructure.repository;
 import com.phm.ecommerce.domain.coupon.UserCoupon;
 import com.phm.ecommerce.domain.coupon.exception.UserCouponNotFoundException;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,9 +16,15 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
   List<UserCoupon> findByUserId(Long userId);
 
+  @Query("SELECT uc FROM UserCoupon uc WHERE uc.id IN :ids")
+  List<UserCoupon> findAllByIds(@Param("ids") List<Long> ids);
+
   List<UserCoupon> findByCouponId(Long couponId);
 
   long countByCouponId(Long couponId);
 
+  @Query("SELECT uc.userId FROM UserCoupon uc WHERE uc.couponId = :couponId")
+  List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
   boolean existsByUserIdAndCouponId(Long userId, Long couponId);
 }